@@ -0,0 +1,58 @@
+package com.daou.sabangnetserver.domain.auth.utils;
+
+import com.daou.sabangnetserver.domain.auth.dto.DeviceInfo;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 요청 헤더에서 IP/기기 정보를 꺼내는 비용
+ * getLoginDeviceInfo는 캐시된 분류 결과 조회, parseUserAgent는 캐시가 없을 때의 분류 비용
+ */
+@State(Scope.Benchmark)
+public class LookUpHttpHeaderBenchmark {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36 Edg/127.0.0.0";
+
+    private LookUpHttpHeader lookUpHttpHeader;
+    private MockHttpServletRequest forwardedRequest;
+    private MockHttpServletRequest directRequest;
+
+    @Setup
+    public void setUp() {
+        lookUpHttpHeader = new LookUpHttpHeader(new UserAgentClassifier(1000), List.of("127.0.0.1", "10.0.0.0/8"));
+
+        forwardedRequest = new MockHttpServletRequest("POST", "/login");
+        forwardedRequest.addHeader("X-Forwarded-For", "203.0.113.10, 10.0.0.1");
+        forwardedRequest.addHeader("User-Agent", USER_AGENT);
+
+        //프록시 헤더가 없어서 모든 헤더를 확인한 뒤 remoteAddr를 사용하는 경우
+        directRequest = new MockHttpServletRequest("POST", "/login");
+        directRequest.setRemoteAddr("192.168.0.10");
+        directRequest.addHeader("User-Agent", USER_AGENT);
+    }
+
+    @Benchmark
+    public String getIpAddressForwarded() {
+        return lookUpHttpHeader.getIpAddress(forwardedRequest);
+    }
+
+    @Benchmark
+    public String getIpAddressDirect() {
+        return lookUpHttpHeader.getIpAddress(directRequest);
+    }
+
+    @Benchmark
+    public DeviceInfo getLoginDeviceInfo() {
+        return lookUpHttpHeader.getLoginDeviceInfo(forwardedRequest);
+    }
+
+    @Benchmark
+    public DeviceInfo parseUserAgent() {
+        return UserAgentClassifier.parse(USER_AGENT);
+    }
+}
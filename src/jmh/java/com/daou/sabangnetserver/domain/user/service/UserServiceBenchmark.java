@@ -0,0 +1,62 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.user.dto.UserDto;
+import com.daou.sabangnetserver.domain.user.entity.Authority;
+import com.daou.sabangnetserver.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * User 엔티티를 UserDto로 변환하는 비용 (단건 조회 경로)
+ * withPendingLastLogin: 아직 DB에 반영되지 않은 마지막 로그인 정보를 덮어쓰는 경우
+ */
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    private UserService userService;
+    private User user;
+    private User loggedInUser;
+
+    @Setup
+    public void setUp() {
+        //convertToDto는 LastLoginUpdateBuffer만 사용하므로 나머지 의존성은 사용하지 않음
+        LastLoginUpdateBuffer lastLoginUpdateBuffer = new LastLoginUpdateBuffer(null, null);
+        userService = new UserService(null, null, null, lastLoginUpdateBuffer, null);
+
+        user = createUser(1L);
+        loggedInUser = createUser(2L);
+        lastLoginUpdateBuffer.record(2L, "203.0.113.10", LocalDateTime.of(2024, 7, 14, 9, 0));
+    }
+
+    private static User createUser(Long userId) {
+        return User.builder()
+                .userId(userId)
+                .id("user" + userId)
+                .pw("$2a$10$8XbrCm6gipnVlOeykQ2F2ui4Rob7ZXbVUpckKLKlaj.VgaJPGQcc6")
+                .name("홍길동")
+                .email("user" + userId + "@daou.co.kr")
+                .department("개발팀")
+                .memo("일반 사용자")
+                .registrationDate(LocalDateTime.of(2024, 6, 17, 9, 35, 10))
+                .isUsed(true)
+                .isDelete(false)
+                .lastLoginTime(LocalDateTime.of(2024, 7, 1, 8, 55))
+                .lastLoginIp("192.168.0.1")
+                .authorities(Set.of(new Authority("ROLE_ADMIN")))
+                .build();
+    }
+
+    @Benchmark
+    public UserDto convertToDto() {
+        return userService.convertToDto(user);
+    }
+
+    @Benchmark
+    public UserDto convertToDtoWithPendingLastLogin() {
+        return userService.convertToDto(loggedInUser);
+    }
+}
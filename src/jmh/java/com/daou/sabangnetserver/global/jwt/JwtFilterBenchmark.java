@@ -0,0 +1,58 @@
+package com.daou.sabangnetserver.global.jwt;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 요청 하나에 대한 JwtFilter.doFilterInternal 비용
+ * cachedToken: 같은 토큰이 반복되는 일반적인 경우, uncachedToken: 매번 서명 검증까지 수행하는 경우
+ * 같은 패키지에 두어 protected인 doFilterInternal을 직접 호출 (OncePerRequestFilter의 중복 실행 확인 제외)
+ */
+@State(Scope.Thread)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        TokenProvider tokenProvider = TokenProviderBenchmark.createTokenProvider();
+        verifiedTokenCache = new VerifiedTokenCache(10000);
+        jwtFilter = new JwtFilter(tokenProvider, verifiedTokenCache);
+
+        request = new MockHttpServletRequest("GET", "/search");
+        request.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + TokenProviderBenchmark.createToken(tokenProvider));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        jwtFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public Object uncachedToken() throws Exception {
+        verifiedTokenCache.clear();
+        jwtFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    //다음 호출에 영향이 없도록 저장된 인증 정보를 비움 (Level.Invocation teardown은 측정 오차가 커서 사용하지 않음)
+    private static Object takeAuthentication() {
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,66 @@
+package com.daou.sabangnetserver.global.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 토큰 발급/검증 처리량과 할당량
+ * verify는 캐시를 거치지 않는 전체 검증(서명 + claims 파싱), getAuthentication은 검증된 토큰의 인증 객체 조회
+ */
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    //application.yml의 jwt.secret과 같은 값
+    static final String SECRET = "dG9i1zcHJpbmctYm9vdC1yb3Qppc3dHktand0LXR1d29vbzZWN1cml0ByaW5nLWJveS1qtc2VjdXJpaWFsLWd3QtdHV0b3JpYWwK";
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+    private VerifiedToken verifiedToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = createTokenProvider();
+        authentication = new UsernamePasswordAuthenticationToken("jomg", null, List.of(new SimpleGrantedAuthority("ROLE_MASTER")));
+        token = tokenProvider.generateToken(authentication);
+        verifiedToken = tokenProvider.verify(token);
+    }
+
+    static TokenProvider createTokenProvider() {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, 1800, new SimpleMeterRegistry());
+        tokenProvider.afterPropertiesSet();
+        return tokenProvider;
+    }
+
+    static String createToken(TokenProvider tokenProvider) {
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken("jomg", null, List.of(new SimpleGrantedAuthority("ROLE_MASTER"))));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(verifiedToken);
+    }
+}
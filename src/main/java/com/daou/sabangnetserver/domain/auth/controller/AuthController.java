@@ -36,10 +36,10 @@ public class AuthController {
 
     @PatchMapping("/update/approve")
     public ResponseEntity<SuccessResponse> approveByMaster(@Valid @RequestBody ApproveRequestDto requestDto) {
-        userService.updateIsUsed(requestDto);
         return ResponseEntity.ok(SuccessResponse.builder()
                 .code(HttpStatus.OK.value())
                 .message("승인이 정상적으로 완료되었습니다.")
+                .data(userService.updateIsUsed(requestDto))
                 .build());
     }
 
@@ -2,10 +2,14 @@ package com.daou.sabangnetserver.domain.auth.controller;
 
 
 import com.daou.sabangnetserver.domain.auth.dto.LoginRequestDto;
+import com.daou.sabangnetserver.domain.auth.dto.LoginServiceDto;
 import com.daou.sabangnetserver.domain.auth.service.LoginService;
+import com.daou.sabangnetserver.domain.auth.service.LoginThrottleService;
+import com.daou.sabangnetserver.global.async.PasswordHashingExecutor;
 import com.daou.sabangnetserver.global.common.SuccessResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,13 +24,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class LoginController {
 
     private final LoginService loginService;
+    private final LoginThrottleService loginThrottleService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
+    //요청 정보(IP, 기기)는 요청 스레드에서 미리 꺼내고, 인증(BCrypt)은 PasswordHashingExecutor에서 처리
+    //시도 횟수 제한을 넘은 요청은 executor에 넣기 전에 거절
     @PostMapping("/login")
-    public ResponseEntity<SuccessResponse> login(HttpServletRequest request, @Valid @RequestBody LoginRequestDto loginRequestDto) {
-        return ResponseEntity.ok(SuccessResponse.builder()
-                .code(HttpStatus.OK.value())
-                .message("성공적으로 로그인되었습니다.")
-                .data(loginService.validateLogin(request, loginRequestDto))
-                .build());
+    public CompletableFuture<ResponseEntity<SuccessResponse>> login(HttpServletRequest request, @Valid @RequestBody LoginRequestDto loginRequestDto) {
+        LoginServiceDto loginServiceDto = loginService.createLoginServiceDto(request, loginRequestDto);
+        loginThrottleService.checkLoginAttempt(loginServiceDto.getId(), loginServiceDto.getLoginIp());
+        return passwordHashingExecutor.supplyAsync(() -> loginService.validateLogin(loginServiceDto))
+                .thenApply(loginResponseDto -> ResponseEntity.ok(SuccessResponse.builder()
+                        .code(HttpStatus.OK.value())
+                        .message("성공적으로 로그인되었습니다.")
+                        .data(loginResponseDto)
+                        .build()));
     }
 }
@@ -0,0 +1,17 @@
+package com.daou.sabangnetserver.domain.auth.dto;
+
+/**
+ * User-Agent 분류 결과
+ * userAgent는 저장 가능한 길이로 자른 원문, label은 이력 조회/내보내기에 보여주는 값 (예: Chrome / Windows)
+ */
+public record DeviceInfo(String userAgent, String browser, String os, boolean mobile) {
+
+    public String label() {
+        return browser + " / " + os + (mobile ? " (Mobile)" : "");
+    }
+
+    @Override
+    public String toString() {
+        return label();
+    }
+}
@@ -9,7 +9,7 @@ import lombok.Getter;
 public class LoginServiceDto {
     private String id;
     private String password;
-    private String loginDevice;
+    private DeviceInfo loginDevice;
     private String loginIp;
     private LocalDateTime loginTime;
 }
@@ -1,10 +1,10 @@
 package com.daou.sabangnetserver.domain.auth.service;
 
 import com.daou.sabangnetserver.domain.auth.dto.AuthResponseDto;
-import com.daou.sabangnetserver.domain.user.entity.User;
+import com.daou.sabangnetserver.global.jwt.JwtPrincipal;
+import com.daou.sabangnetserver.global.jwt.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -15,16 +15,15 @@ public class AuthService {
     public AuthResponseDto extractIdAndAuthority () {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        User user = (User) authentication.getPrincipal();
-        String id = user.getId();
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        String id = principal.id();
 
-        GrantedAuthority grantedAuthority = authentication.getAuthorities().iterator().next();
-        String authorityName = grantedAuthority.getAuthority();
+        Role role = principal.roles().iterator().next();
 
 
         return AuthResponseDto.builder()
                 .id(id)
-                .authority(authorityName.substring(5))
+                .authority(role.name())
                 .build();
     }
 
@@ -4,24 +4,24 @@ import com.daou.sabangnetserver.domain.auth.dto.LoginRequestDto;
 import com.daou.sabangnetserver.domain.auth.dto.LoginResponseDto;
 import com.daou.sabangnetserver.domain.auth.dto.LoginServiceDto;
 import com.daou.sabangnetserver.domain.auth.utils.LookUpHttpHeader;
-import com.daou.sabangnetserver.domain.user.entity.History;
-import com.daou.sabangnetserver.domain.user.entity.User;
-import com.daou.sabangnetserver.domain.user.repository.HistoryRepository;
-import com.daou.sabangnetserver.domain.user.repository.UserRepository;
+import com.daou.sabangnetserver.domain.statistics.service.LoginStatisticsService;
+import com.daou.sabangnetserver.domain.user.dto.HistoryInsertDto;
+import com.daou.sabangnetserver.domain.user.dto.LoginUserDetails;
+import com.daou.sabangnetserver.domain.user.service.HistoryWriteBehindService;
+import com.daou.sabangnetserver.domain.user.service.LastLoginUpdateBuffer;
+import com.daou.sabangnetserver.domain.user.service.LoginDeviceService;
 import com.daou.sabangnetserver.global.error.AuthorityNotFoundException;
-import com.daou.sabangnetserver.global.error.UserNotFoundException;
 import com.daou.sabangnetserver.global.jwt.TokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
@@ -30,20 +30,25 @@ public class LoginService {
 
     private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
-    private final UserRepository userRepo;
-    private final HistoryRepository historyRepo;
-
-    public LoginResponseDto validateLogin(HttpServletRequest request, LoginRequestDto loginRequestDto) {
-
-        LookUpHttpHeader lookUpHttpHeader = new LookUpHttpHeader();
-
-        LoginServiceDto loginServiceDto = LoginServiceDto.builder()
+    private final HistoryWriteBehindService historyWriteBehindService;
+    private final LastLoginUpdateBuffer lastLoginUpdateBuffer;
+    private final LoginStatisticsService loginStatisticsService;
+    private final LookUpHttpHeader lookUpHttpHeader;
+    private final LoginDeviceService loginDeviceService;
+
+    //요청 헤더에서 로그인 정보 추출; 요청 스레드에서 호출
+    public LoginServiceDto createLoginServiceDto(HttpServletRequest request, LoginRequestDto loginRequestDto) {
+        return LoginServiceDto.builder()
                 .id(loginRequestDto.getId())
                 .password(loginRequestDto.getPassword())
                 .loginIp(lookUpHttpHeader.getIpAddress(request))
                 .loginDevice(lookUpHttpHeader.getLoginDeviceInfo(request))
                 .loginTime(LocalDateTime.now().withNano(0))
                 .build();
+    }
+
+    //PasswordHashingExecutor 스레드에서 실행되므로 SecurityContextHolder에 인증 정보를 저장하지 않음
+    public LoginResponseDto validateLogin(LoginServiceDto loginServiceDto) {
 
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                 new UsernamePasswordAuthenticationToken(loginServiceDto.getId(),
@@ -52,42 +57,36 @@ public class LoginService {
         Authentication authentication;
         try {
             // authenticate 메소드 실행시 CustomDetailsService 클래스의 loadUserByUsername 메소드 실행
+            // 사용자와 권한은 한 번만 조회하고, 비활성화된 사용자는 비밀번호 비교 전에 DisabledException 발생
             authentication = authenticationManagerBuilder.getObject().authenticate(usernamePasswordAuthenticationToken);
-            // 해당 객체를 SecurityContextHolder에 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        } catch (DisabledException e) {
+            throw new AuthorityNotFoundException(HttpStatus.FORBIDDEN.value(), "사용자가 활성화되지 않았습니다.");
         } catch (BadCredentialsException e) {
             throw new RuntimeException("아이디 혹은 비밀번호가 일치하지 않습니다.");
         }
 
         String jwt = "Bearer " + tokenProvider.generateToken(authentication);
 
-        User user = updateUserInfoAndReturnUser(loginServiceDto);
-        insertHistory(loginServiceDto, user);
+        // 인증 과정에서 조회한 USER_ID를 그대로 사용; 사용자를 다시 조회하지 않음
+        Long userId = ((LoginUserDetails) authentication.getPrincipal()).getUserId();
+        updateLastLoginInfo(loginServiceDto, userId);
+        insertHistory(loginServiceDto, userId);
+        loginStatisticsService.record(loginServiceDto.getId(), loginServiceDto.getLoginDevice().browser(), loginServiceDto.getLoginTime());
 
         return new LoginResponseDto(jwt);
     }
 
-    @Transactional
-    private User updateUserInfoAndReturnUser(LoginServiceDto loginServiceDto){
-        User user = userRepo.findByIdAndIsDeleteFalse(loginServiceDto.getId()).orElseThrow(
-                ()->new UserNotFoundException(HttpStatus.NOT_FOUND.value(), "해당 사용자가 없습니다.")
-        );
-
-        if (!user.getIsUsed()) {
-            throw new AuthorityNotFoundException(HttpStatus.FORBIDDEN.value(), "사용자가 활성화되지 않았습니다.");
-        }
-
-        user.updateLastLoginInfo(loginServiceDto.getLoginIp(), loginServiceDto.getLoginTime());
-
-        return user;
+    //마지막 로그인 정보는 메모리에 모아 두었다가 주기적으로 한 번에 반영
+    private void updateLastLoginInfo(LoginServiceDto loginServiceDto, Long userId){
+        lastLoginUpdateBuffer.record(userId, loginServiceDto.getLoginIp(), loginServiceDto.getLoginTime());
     }
 
-    @Transactional
-    private void insertHistory(LoginServiceDto loginServiceDto, User user){
-        historyRepo.save(History.builder()
+    //로그인 이력은 write-behind 큐에 넣고 바로 리턴; 실제 저장은 백그라운드에서 batch로 처리
+    private void insertHistory(LoginServiceDto loginServiceDto, Long userId){
+        historyWriteBehindService.enqueue(HistoryInsertDto.builder()
+                .userId(userId)
                 .loginIp(loginServiceDto.getLoginIp())
-                .loginDevice(loginServiceDto.getLoginDevice())
-                .user(user)
+                .deviceId(loginDeviceService.getDeviceId(loginServiceDto.getLoginDevice()))
                 .loginTime(loginServiceDto.getLoginTime())
                 .build()
         );
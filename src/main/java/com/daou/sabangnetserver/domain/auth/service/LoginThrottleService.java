@@ -0,0 +1,178 @@
+package com.daou.sabangnetserver.domain.auth.service;
+
+import com.daou.sabangnetserver.global.error.TooManyRequestsException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 시도 횟수 제한 (아이디별, IP별)
+ * 키마다 AtomicLong 하나로 token bucket(GCRA)을 표현하고 CAS로 갱신하므로 lock이 없음
+ * 버킷이 가득 찬(한동안 시도가 없던) 키는 주기적으로 제거하고, 키 개수는 max-keys로 제한
+ * 키가 max-keys만큼 차면 새 키는 키별 버킷 대신 하나의 공유 버킷(overflow.max-attempts)을 함께 사용
+ * (새 키를 무제한으로 통과시키지도, 모두 거절해서 새 사용자의 로그인을 막지도 않음)
+ * 가득 찬 상태에서 요청마다 전체를 훑지 않도록 요청 중 정리는 inline-sweep-interval-ms에 한 번만 수행
+ * 키는 max-key-length까지만 사용 (긴 아이디/X-Forwarded-For로 메모리를 늘리지 못하도록)
+ * 제한을 넘은 요청은 AuthenticationManager.authenticate 전에 거절되어 BCrypt 비용이 들지 않음
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private final Limiter idLimiter;
+    private final Limiter ipLimiter;
+    private final int maxKeys;
+    private final int maxKeyLength;
+    private final long inlineSweepIntervalNanos;
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+    private final AtomicLong lastInlineSweepNanos;
+    private final LongAdder rejectedByOverflowCount = new LongAdder();
+
+    public LoginThrottleService(
+            @Value("${login.throttle.id.max-attempts:10}") int idMaxAttempts,
+            @Value("${login.throttle.id.period-seconds:60}") long idPeriodSeconds,
+            @Value("${login.throttle.ip.max-attempts:50}") int ipMaxAttempts,
+            @Value("${login.throttle.ip.period-seconds:60}") long ipPeriodSeconds,
+            @Value("${login.throttle.max-keys:100000}") int maxKeys,
+            @Value("${login.throttle.overflow.max-attempts:1000}") int overflowMaxAttempts,
+            @Value("${login.throttle.max-key-length:64}") int maxKeyLength,
+            @Value("${login.throttle.inline-sweep-interval-ms:1000}") long inlineSweepIntervalMillis) {
+        this.idLimiter = new Limiter(idMaxAttempts, idPeriodSeconds, overflowMaxAttempts);
+        this.ipLimiter = new Limiter(ipMaxAttempts, ipPeriodSeconds, overflowMaxAttempts);
+        this.maxKeys = maxKeys;
+        this.maxKeyLength = maxKeyLength;
+        this.inlineSweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(inlineSweepIntervalMillis);
+        this.lastInlineSweepNanos = new AtomicLong(System.nanoTime() - inlineSweepIntervalNanos);
+    }
+
+    public void checkLoginAttempt(String id, String ip) {
+        checkLoginAttempt(id, ip, System.nanoTime());
+    }
+
+    //테스트에서 시각을 지정하기 위한 메소드
+    void checkLoginAttempt(String id, String ip, long now) {
+        if (!tryAcquire(ipLimiter, ip, now)) {
+            log.debug("IP '{}'의 로그인 시도가 제한되었습니다.", ip);
+            throw new TooManyRequestsException(HttpStatus.TOO_MANY_REQUESTS.value(), "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!tryAcquire(idLimiter, id, now)) {
+            log.debug("아이디 '{}'의 로그인 시도가 제한되었습니다.", id);
+            throw new TooManyRequestsException(HttpStatus.TOO_MANY_REQUESTS.value(), "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private boolean tryAcquire(Limiter limiter, String key, long now) {
+        if (key == null) {
+            return true;
+        }
+        if (key.length() > maxKeyLength) {
+            key = key.substring(0, maxKeyLength);
+        }
+
+        AtomicLong theoreticalArrivalTime = limiter.buckets.get(key);
+        if (theoreticalArrivalTime == null) {
+            if (limiter.buckets.size() >= maxKeys) {
+                sweepInline(now);
+                if (limiter.buckets.size() >= maxKeys) {
+                    //추적하지 못하는 키는 공유 버킷으로 제한; 키를 채우는 요청도 같은 버킷을 소모하므로 우회할 수 없음
+                    if (acquire(limiter.overflow, limiter.overflowIntervalNanos, limiter.periodNanos, now)) {
+                        return true;
+                    }
+                    rejectedByOverflowCount.increment();
+                    return false;
+                }
+            }
+            theoreticalArrivalTime = limiter.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        if (acquire(theoreticalArrivalTime, limiter.intervalNanos, limiter.periodNanos, now)) {
+            return true;
+        }
+        limiter.rejectedCount.increment();
+        return false;
+    }
+
+    private static boolean acquire(AtomicLong theoreticalArrivalTime, long intervalNanos, long periodNanos, long now) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            if (next - now > periodNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    //버킷이 모두 채워진 키(마지막 시도 후 period가 지난 키)는 상태가 없는 것과 같으므로 제거
+    @Scheduled(fixedDelayString = "${login.throttle.sweep-interval-ms:60000}")
+    public void sweepIdleKeys() {
+        sweep(System.nanoTime());
+    }
+
+    //가득 찬 상태에서는 요청마다 sweep하지 않고 inline-sweep-interval-ms에 한 번만 수행
+    private void sweepInline(long now) {
+        long last = lastInlineSweepNanos.get();
+        if (now - last >= inlineSweepIntervalNanos && lastInlineSweepNanos.compareAndSet(last, now)) {
+            sweep(now);
+        }
+    }
+
+    void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            idLimiter.buckets.values().removeIf(tat -> tat.get() - now <= 0);
+            ipLimiter.buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public long getRejectedByIdCount() {
+        return idLimiter.rejectedCount.sum();
+    }
+
+    public long getRejectedByIpCount() {
+        return ipLimiter.rejectedCount.sum();
+    }
+
+    public long getRejectedByOverflowCount() {
+        return rejectedByOverflowCount.sum();
+    }
+
+    public int getTrackedIdCount() {
+        return idLimiter.buckets.size();
+    }
+
+    public int getTrackedIpCount() {
+        return ipLimiter.buckets.size();
+    }
+
+    //period 동안 maxAttempts번까지 허용; 시도 간격(intervalNanos)마다 한 번씩 다시 채워짐
+    //키가 가득 찬 뒤의 새 키는 모두 overflow 버킷 하나를 함께 사용 (period 동안 overflowMaxAttempts번)
+    private static final class Limiter {
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+        private final LongAdder rejectedCount = new LongAdder();
+        private final long intervalNanos;
+        private final long overflowIntervalNanos;
+        private final long periodNanos;
+
+        private Limiter(int maxAttempts, long periodSeconds, int overflowMaxAttempts) {
+            this.periodNanos = TimeUnit.SECONDS.toNanos(periodSeconds);
+            this.intervalNanos = periodNanos / Math.max(1, maxAttempts);
+            this.overflowIntervalNanos = periodNanos / Math.max(1, overflowMaxAttempts);
+        }
+    }
+}
@@ -1,57 +1,78 @@
 package com.daou.sabangnetserver.domain.auth.utils;
 
+import com.daou.sabangnetserver.domain.auth.dto.DeviceInfo;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.AllArgsConstructor;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.stereotype.Component;
 
 @Component
-@AllArgsConstructor
 public class LookUpHttpHeader {
 
-    public String getIpAddress(HttpServletRequest request){
+    private static final List<String> PROXY_CLIENT_IP_HEADERS = List.of("Proxy-Client-IP", "WL-Proxy-Client-IP", "HTTP_CLIENT_IP");
 
-        String ip = request.getHeader("X-Forwarded-For");
+    private final UserAgentClassifier userAgentClassifier;
+    private final List<IpAddressMatcher> trustedProxies;
 
-        if(ip != null && !ip.isEmpty()){
-            ip = ip.split(",")[0].trim();
-        }
+    public LookUpHttpHeader(
+            UserAgentClassifier userAgentClassifier,
+            @Value("${request.trusted-proxies:127.0.0.1,::1}") List<String> trustedProxies) {
+        this.userAgentClassifier = userAgentClassifier;
+        this.trustedProxies = trustedProxies.stream()
+                .filter(proxy -> !proxy.isBlank())
+                .map(proxy -> new IpAddressMatcher(proxy.trim()))
+                .toList();
+    }
 
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
+    //전달 헤더는 클라이언트가 임의로 넣을 수 있으므로 설정된 프록시(request.trusted-proxies)에서 온 요청일 때만 사용
+    //X-Forwarded-For는 오른쪽(가까운 프록시)부터 신뢰하는 프록시를 건너뛰고 처음 나오는 주소를 클라이언트로 판단
+    public String getIpAddress(HttpServletRequest request){
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (i == 0 || !isTrustedProxy(hop)) {
+                    return hop;
+                }
+            }
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
+
+        for (String header : PROXY_CLIENT_IP_HEADERS) {
+            String ip = request.getHeader(header);
+            if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
+                return ip;
+            }
         }
-        return ip;
+        return remoteAddr;
     }
-    public String getLoginDeviceInfo(HttpServletRequest request){
-        String agent = request.getHeader("User-Agent");
-        String browser = null;
-        if (agent != null) {
-            if (agent.contains("Trident")) {
-                browser = "MSIE";
-            } else if (agent.contains("Chrome")) {
-                browser = "Chrome";
-            } else if (agent.contains("Opera")) {
-                browser = "Opera";
-            } else if (agent.contains("iPhone") && agent.contains("Mobile")) {
-                browser = "iPhone";
-            } else if (agent.contains("Android") && agent.contains("Mobile")) {
-                browser = "Android";
+
+    private boolean isTrustedProxy(String ip) {
+        //호스트 이름이 DNS 조회로 이어지지 않도록 IP 형식만 비교
+        if (ip == null || ip.isEmpty() || !ip.chars().allMatch(c -> Character.digit(c, 16) >= 0 || c == '.' || c == ':')) {
+            return false;
+        }
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(ip)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
             }
-            else
-                browser = "";
         }
-        return agent + " " + browser;
+        return false;
+    }
+
+    //User-Agent 분류 결과는 UserAgentClassifier에서 캐시
+    public DeviceInfo getLoginDeviceInfo(HttpServletRequest request){
+        return userAgentClassifier.classify(request.getHeader("User-Agent"));
     }
 
 }
@@ -0,0 +1,96 @@
+package com.daou.sabangnetserver.domain.auth.utils;
+
+import com.daou.sabangnetserver.domain.auth.dto.DeviceInfo;
+import com.daou.sabangnetserver.global.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * User-Agent를 브라우저/OS/모바일 여부로 분류
+ * 실제로는 같은 몇십 개의 User-Agent가 반복되므로 원문 기준으로 결과를 캐시하고, 처음 보는 값만 문자열 검사
+ */
+@Component
+public class UserAgentClassifier {
+
+    public static final int MAX_USER_AGENT_LENGTH = 512;
+    public static final String OTHER = "Other";
+
+    private final BoundedCache<String, DeviceInfo> cache;
+
+    public UserAgentClassifier(@Value("${user-agent.cache.max-size:1000}") int maxSize) {
+        this.cache = new BoundedCache<>(maxSize);
+    }
+
+    public DeviceInfo classify(String userAgent) {
+        String normalized = normalize(userAgent);
+        return cache.get(normalized, UserAgentClassifier::parse);
+    }
+
+    static String normalize(String userAgent) {
+        if (userAgent == null) {
+            return "";
+        }
+        String trimmed = userAgent.trim();
+        return trimmed.length() > MAX_USER_AGENT_LENGTH ? trimmed.substring(0, MAX_USER_AGENT_LENGTH) : trimmed;
+    }
+
+    static DeviceInfo parse(String userAgent) {
+        return new DeviceInfo(userAgent, browser(userAgent), os(userAgent), mobile(userAgent));
+    }
+
+    //다른 브라우저도 Chrome/Safari 토큰을 함께 보내므로 더 구체적인 토큰부터 검사
+    private static String browser(String userAgent) {
+        if (userAgent.contains("Whale/")) {
+            return "Whale";
+        } else if (userAgent.contains("SamsungBrowser/")) {
+            return "Samsung Internet";
+        } else if (userAgent.contains("Edg/") || userAgent.contains("EdgA/") || userAgent.contains("EdgiOS/") || userAgent.contains("Edge/")) {
+            return "Edge";
+        } else if (userAgent.contains("OPR/") || userAgent.contains("Opera")) {
+            return "Opera";
+        } else if (userAgent.contains("Trident") || userAgent.contains("MSIE")) {
+            return "MSIE";
+        } else if (userAgent.contains("Firefox/") || userAgent.contains("FxiOS/")) {
+            return "Firefox";
+        } else if (userAgent.contains("Chrome/") || userAgent.contains("CriOS/")) {
+            return "Chrome";
+        } else if (userAgent.contains("Safari/")) {
+            return "Safari";
+        }
+        return OTHER;
+    }
+
+    //iOS User-Agent에는 "like Mac OS X"가 포함되므로 macOS보다 먼저 검사
+    private static String os(String userAgent) {
+        if (userAgent.contains("Windows")) {
+            return "Windows";
+        } else if (userAgent.contains("iPhone") || userAgent.contains("iPad") || userAgent.contains("iPod")) {
+            return "iOS";
+        } else if (userAgent.contains("Android")) {
+            return "Android";
+        } else if (userAgent.contains("Mac OS X") || userAgent.contains("Macintosh")) {
+            return "macOS";
+        } else if (userAgent.contains("CrOS")) {
+            return "ChromeOS";
+        } else if (userAgent.contains("Linux")) {
+            return "Linux";
+        }
+        return OTHER;
+    }
+
+    private static boolean mobile(String userAgent) {
+        return userAgent.contains("Mobile") || userAgent.contains("iPhone") || userAgent.contains("iPod");
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+}
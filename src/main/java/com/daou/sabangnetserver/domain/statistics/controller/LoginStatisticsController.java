@@ -0,0 +1,48 @@
+package com.daou.sabangnetserver.domain.statistics.controller;
+
+import com.daou.sabangnetserver.domain.statistics.dto.LoginStatisticsRequestDto;
+import com.daou.sabangnetserver.domain.statistics.dto.StatisticsDimension;
+import com.daou.sabangnetserver.domain.statistics.service.LoginStatisticsService;
+import com.daou.sabangnetserver.global.common.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping(value = "/statistics")
+@RestController
+@RequiredArgsConstructor
+public class LoginStatisticsController {
+
+    private final LoginStatisticsService loginStatisticsService;
+
+    @GetMapping("/daily")
+    public ResponseEntity<SuccessResponse> getDailyStatistics(@ModelAttribute LoginStatisticsRequestDto requestDto) {
+        return ResponseEntity.ok(SuccessResponse.builder()
+                .code(HttpStatus.OK.value())
+                .message("일별 로그인 통계를 성공적으로 조회했습니다.")
+                .data(loginStatisticsService.getStatistics(StatisticsDimension.DAY, requestDto))
+                .build());
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<SuccessResponse> getUserStatistics(@ModelAttribute LoginStatisticsRequestDto requestDto) {
+        return ResponseEntity.ok(SuccessResponse.builder()
+                .code(HttpStatus.OK.value())
+                .message("사용자별 로그인 통계를 성공적으로 조회했습니다.")
+                .data(loginStatisticsService.getStatistics(StatisticsDimension.USER, requestDto))
+                .build());
+    }
+
+    @GetMapping("/devices")
+    public ResponseEntity<SuccessResponse> getDeviceStatistics(@ModelAttribute LoginStatisticsRequestDto requestDto) {
+        return ResponseEntity.ok(SuccessResponse.builder()
+                .code(HttpStatus.OK.value())
+                .message("기기별 로그인 통계를 성공적으로 조회했습니다.")
+                .data(loginStatisticsService.getStatistics(StatisticsDimension.DEVICE, requestDto))
+                .build());
+    }
+}
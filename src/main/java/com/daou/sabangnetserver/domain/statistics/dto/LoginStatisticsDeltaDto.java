@@ -0,0 +1,15 @@
+package com.daou.sabangnetserver.domain.statistics.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//요약 테이블에 더할 증가분
+@Getter
+@AllArgsConstructor
+public class LoginStatisticsDeltaDto {
+    private LocalDate statDate;
+    private StatisticsDimension dimension;
+    private String dimensionKey;
+    private long count;
+}
@@ -0,0 +1,12 @@
+package com.daou.sabangnetserver.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//DAY는 날짜(yyyy-MM-dd), USER는 로그인 아이디, DEVICE는 기기 분류가 key
+@Getter
+@AllArgsConstructor
+public class LoginStatisticsDto {
+    private String key;
+    private long count;
+}
@@ -0,0 +1,18 @@
+package com.daou.sabangnetserver.domain.statistics.dto;
+
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@Builder
+public class LoginStatisticsRequestDto {
+    //기본값: 오늘을 포함한 최근 30일
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    //USER, DEVICE 조회 시 로그인 수 상위 몇 개를 반환할지 (기본값 100)
+    private Integer limit;
+}
@@ -0,0 +1,15 @@
+package com.daou.sabangnetserver.domain.statistics.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LoginStatisticsResponseDto {
+    private LocalDate from;
+    private LocalDate to;
+    private long totalCount;
+    private List<LoginStatisticsDto> statistics;
+}
@@ -0,0 +1,7 @@
+package com.daou.sabangnetserver.domain.statistics.dto;
+
+public enum StatisticsDimension {
+    DAY,
+    USER,
+    DEVICE
+}
@@ -0,0 +1,37 @@
+package com.daou.sabangnetserver.domain.statistics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//날짜별 로그인 수 요약 (DIMENSION: DAY는 DIMENSION_KEY가 빈 문자열, USER는 로그인 아이디, DEVICE는 기기 분류)
+@Entity
+@Table(name = "LOGIN_STATISTICS")
+@IdClass(LoginStatisticsId.class)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoginStatistics {
+    @Id
+    @Column(name = "STAT_DATE", nullable = false)
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "DIMENSION", length = 10, nullable = false)
+    private String dimension;
+
+    @Id
+    @Column(name = "DIMENSION_KEY", length = 100, nullable = false)
+    private String dimensionKey;
+
+    @Column(name = "LOGIN_COUNT", nullable = false)
+    private Long loginCount;
+}
@@ -0,0 +1,16 @@
+package com.daou.sabangnetserver.domain.statistics.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LoginStatisticsId implements Serializable {
+    private LocalDate statDate;
+    private String dimension;
+    private String dimensionKey;
+}
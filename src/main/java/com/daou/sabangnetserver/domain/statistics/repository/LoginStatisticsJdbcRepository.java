@@ -0,0 +1,86 @@
+package com.daou.sabangnetserver.domain.statistics.repository;
+
+import com.daou.sabangnetserver.domain.statistics.dto.LoginStatisticsDeltaDto;
+import com.daou.sabangnetserver.domain.statistics.dto.StatisticsDimension;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LoginStatisticsJdbcRepository {
+
+    //기존 값에 증가분을 더하므로 같은 증가분을 두 번 반영하지 않는 한 여러 서버에서 동시에 반영해도 됨
+    private static final String MERGE_STATISTICS =
+            "MERGE INTO LOGIN_STATISTICS T "
+                    + "USING (VALUES (CAST(? AS DATE), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS BIGINT))) "
+                    + "S (STAT_DATE, DIMENSION, DIMENSION_KEY, LOGIN_COUNT) "
+                    + "ON T.STAT_DATE = S.STAT_DATE AND T.DIMENSION = S.DIMENSION AND T.DIMENSION_KEY = S.DIMENSION_KEY "
+                    + "WHEN MATCHED THEN UPDATE SET T.LOGIN_COUNT = T.LOGIN_COUNT + S.LOGIN_COUNT "
+                    + "WHEN NOT MATCHED THEN INSERT (STAT_DATE, DIMENSION, DIMENSION_KEY, LOGIN_COUNT) "
+                    + "VALUES (S.STAT_DATE, S.DIMENSION, S.DIMENSION_KEY, S.LOGIN_COUNT)";
+
+    private static final String SUM_BY_DATE =
+            "SELECT STAT_DATE, SUM(LOGIN_COUNT) FROM LOGIN_STATISTICS "
+                    + "WHERE DIMENSION = ? AND STAT_DATE BETWEEN ? AND ? GROUP BY STAT_DATE";
+
+    private static final String SUM_BY_KEY =
+            "SELECT DIMENSION_KEY, SUM(LOGIN_COUNT) FROM LOGIN_STATISTICS "
+                    + "WHERE DIMENSION = ? AND STAT_DATE BETWEEN ? AND ? GROUP BY DIMENSION_KEY";
+
+    private static final String COUNT_STATISTICS = "SELECT COUNT(*) FROM LOGIN_STATISTICS";
+
+    //요약 테이블이 비어 있을 때 HISTORY 전체를 DB 안에서 바로 집계해서 저장 (애플리케이션 메모리에 묶음을 올리지 않음)
+    //기기 분류는 LoginStatisticsService.toDeviceClass와 같게 비어 있는 브라우저를 'Other'로 집계
+    private static final List<String> INSERT_FROM_HISTORY = List.of(
+            "INSERT INTO LOGIN_STATISTICS (STAT_DATE, DIMENSION, DIMENSION_KEY, LOGIN_COUNT) "
+                    + "SELECT CAST(H.LOGIN_TIME AS DATE), 'DAY', '', COUNT(*) FROM HISTORY H "
+                    + "GROUP BY CAST(H.LOGIN_TIME AS DATE)",
+            "INSERT INTO LOGIN_STATISTICS (STAT_DATE, DIMENSION, DIMENSION_KEY, LOGIN_COUNT) "
+                    + "SELECT CAST(H.LOGIN_TIME AS DATE), 'USER', U.ID, COUNT(*) "
+                    + "FROM HISTORY H JOIN USERS U ON U.USER_ID = H.USER_ID "
+                    + "GROUP BY CAST(H.LOGIN_TIME AS DATE), U.ID",
+            "INSERT INTO LOGIN_STATISTICS (STAT_DATE, DIMENSION, DIMENSION_KEY, LOGIN_COUNT) "
+                    + "SELECT STAT_DATE, 'DEVICE', DEVICE_CLASS, COUNT(*) FROM ("
+                    + "SELECT CAST(H.LOGIN_TIME AS DATE) STAT_DATE, "
+                    + "CASE WHEN D.BROWSER IS NULL OR TRIM(D.BROWSER) = '' THEN 'Other' ELSE D.BROWSER END DEVICE_CLASS "
+                    + "FROM HISTORY H JOIN LOGIN_DEVICE D ON D.DEVICE_ID = H.DEVICE_ID) G "
+                    + "GROUP BY STAT_DATE, DEVICE_CLASS");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void mergeAll(List<LoginStatisticsDeltaDto> deltas) {
+        jdbcTemplate.batchUpdate(MERGE_STATISTICS, deltas, deltas.size(), (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.getStatDate()));
+            ps.setString(2, delta.getDimension().name());
+            ps.setString(3, delta.getDimensionKey());
+            ps.setLong(4, delta.getCount());
+        });
+    }
+
+    //DAY는 날짜(yyyy-MM-dd), 나머지는 DIMENSION_KEY별 합계
+    public Map<String, Long> sumByKey(StatisticsDimension dimension, LocalDate from, LocalDate to) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(dimension == StatisticsDimension.DAY ? SUM_BY_DATE : SUM_BY_KEY,
+                rs -> {
+                    counts.put(dimension == StatisticsDimension.DAY ? rs.getDate(1).toLocalDate().toString() : rs.getString(1), rs.getLong(2));
+                },
+                dimension.name(), Date.valueOf(from), Date.valueOf(to));
+        return counts;
+    }
+
+    public boolean isEmpty() {
+        Long count = jdbcTemplate.queryForObject(COUNT_STATISTICS, Long.class);
+        return count == null || count == 0;
+    }
+
+    //요약 테이블이 비어 있을 때만 사용 (기존 값에 더하지 않음), 저장한 행 수를 반환
+    public int insertAllFromHistory() {
+        return INSERT_FROM_HISTORY.stream().mapToInt(jdbcTemplate::update).sum();
+    }
+}
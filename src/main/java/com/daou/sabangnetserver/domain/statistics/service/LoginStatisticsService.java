@@ -0,0 +1,160 @@
+package com.daou.sabangnetserver.domain.statistics.service;
+
+import com.daou.sabangnetserver.domain.statistics.dto.LoginStatisticsDeltaDto;
+import com.daou.sabangnetserver.domain.statistics.dto.LoginStatisticsDto;
+import com.daou.sabangnetserver.domain.statistics.dto.LoginStatisticsRequestDto;
+import com.daou.sabangnetserver.domain.statistics.dto.LoginStatisticsResponseDto;
+import com.daou.sabangnetserver.domain.statistics.dto.StatisticsDimension;
+import com.daou.sabangnetserver.domain.statistics.repository.LoginStatisticsJdbcRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그인 통계 (일별, 사용자별, 기기 분류별 로그인 수)
+ * 로그인할 때마다 메모리의 증가분 카운터만 올리고, 주기적으로 LOGIN_STATISTICS 요약 테이블에 더함(checkpoint)
+ * 조회는 요약 테이블의 버킷 합계에 아직 반영되지 않은 증가분을 더해서 응답하므로 HISTORY를 스캔하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginStatisticsService implements DisposableBean {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int DEFAULT_LIMIT = 100;
+    private static final String UNKNOWN_DEVICE = "Other";
+
+    private final LoginStatisticsJdbcRepository loginStatisticsJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    //마지막 checkpoint 이후의 증가분
+    private final Map<StatisticsKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(String loginId, String browser, LocalDateTime loginTime) {
+        LocalDate statDate = loginTime.toLocalDate();
+        increment(new StatisticsKey(statDate, StatisticsDimension.DAY, ""), 1);
+        increment(new StatisticsKey(statDate, StatisticsDimension.USER, loginId), 1);
+        increment(new StatisticsKey(statDate, StatisticsDimension.DEVICE, toDeviceClass(browser)), 1);
+    }
+
+    public LoginStatisticsResponseDto getStatistics(StatisticsDimension dimension, LoginStatisticsRequestDto requestDto) {
+        LocalDate to = requestDto.getTo() != null ? requestDto.getTo() : LocalDate.now();
+        LocalDate from = requestDto.getFrom() != null ? requestDto.getFrom() : to.minusDays(DEFAULT_DAYS - 1);
+        if (from.isAfter(to)) {
+            throw new RuntimeException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        //checkpoint와 겹치면 방금 반영된 증가분이 잠시 빠질 수 있지만 다음 조회에서 맞춰짐
+        Map<String, Long> counts = new HashMap<>(loginStatisticsJdbcRepository.sumByKey(dimension, from, to));
+        pending.forEach((key, count) -> {
+            if (key.dimension() == dimension && !key.statDate().isBefore(from) && !key.statDate().isAfter(to)) {
+                String bucket = dimension == StatisticsDimension.DAY ? key.statDate().toString() : key.dimensionKey();
+                counts.merge(bucket, count.sum(), Long::sum);
+            }
+        });
+
+        List<LoginStatisticsDto> statistics = new ArrayList<>(counts.size());
+        long totalCount = 0;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            statistics.add(new LoginStatisticsDto(entry.getKey(), entry.getValue()));
+            totalCount += entry.getValue();
+        }
+
+        if (dimension == StatisticsDimension.DAY) {
+            statistics.sort(Comparator.comparing(LoginStatisticsDto::getKey));
+        } else {
+            statistics.sort(Comparator.comparingLong(LoginStatisticsDto::getCount).reversed()
+                    .thenComparing(LoginStatisticsDto::getKey));
+            int limit = requestDto.getLimit() != null && requestDto.getLimit() > 0 ? requestDto.getLimit() : DEFAULT_LIMIT;
+            if (statistics.size() > limit) {
+                statistics = new ArrayList<>(statistics.subList(0, limit));
+            }
+        }
+
+        return LoginStatisticsResponseDto.builder()
+                .from(from)
+                .to(to)
+                .totalCount(totalCount)
+                .statistics(statistics)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.checkpoint-interval-ms:10000}")
+    public void checkpoint() {
+        //증가와 꺼내기는 모두 같은 키의 map 연산 안에서 수행되므로 꺼내는 도중에 더해진 값이 사라지지 않음
+        //지난 날짜의 카운터는 더 이상 증가하지 않으므로 꺼내면서 제거해서 메모리를 일정하게 유지 (반영에 실패하면 increment로 다시 생김)
+        LocalDate today = LocalDate.now();
+        List<LoginStatisticsDeltaDto> deltas = new ArrayList<>();
+        for (StatisticsKey key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, adder) -> {
+                long count = adder.sumThenReset();
+                if (count > 0) {
+                    deltas.add(new LoginStatisticsDeltaDto(k.statDate(), k.dimension(), k.dimensionKey(), count));
+                }
+                return k.statDate().isBefore(today) ? null : adder;
+            });
+        }
+
+        if (!deltas.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> loginStatisticsJdbcRepository.mergeAll(deltas));
+            } catch (RuntimeException e) {
+                log.error("로그인 통계 {}건 반영에 실패했습니다. 다음 주기에 다시 반영합니다.", deltas.size(), e);
+                deltas.forEach(delta -> increment(new StatisticsKey(delta.getStatDate(), delta.getDimension(), delta.getDimensionKey()), delta.getCount()));
+            }
+        }
+    }
+
+    //요약 테이블이 비어 있으면(처음 기동하거나 스키마가 새로 만들어진 경우) 기존 HISTORY에서 DB 안에서 한 번 다시 계산
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!loginStatisticsJdbcRepository.isEmpty()) {
+            return;
+        }
+
+        Integer inserted = transactionTemplate.execute(status -> loginStatisticsJdbcRepository.insertAllFromHistory());
+        if (inserted != null && inserted > 0) {
+            log.info("로그인 이력으로 로그인 통계 {}건을 다시 계산했습니다.", inserted);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void destroy() {
+        checkpoint();
+    }
+
+    private void increment(StatisticsKey key, long count) {
+        //map 연산 밖에서 더하면 checkpoint가 그 사이에 카운터를 제거해 증가분이 사라질 수 있으므로 compute 안에서 더함
+        pending.compute(key, (k, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.add(count);
+            return counter;
+        });
+    }
+
+    //기기 통계는 UserAgentClassifier가 분류한 브라우저 단위로 집계 (재계산 SQL인 LoginStatisticsJdbcRepository.INSERT_FROM_HISTORY와 같은 규칙)
+    static String toDeviceClass(String browser) {
+        return browser == null || browser.isBlank() ? UNKNOWN_DEVICE : browser;
+    }
+
+    private record StatisticsKey(LocalDate statDate, StatisticsDimension dimension, String dimensionKey) {
+    }
+}
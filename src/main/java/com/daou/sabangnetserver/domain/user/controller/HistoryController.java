@@ -1,16 +1,21 @@
 package com.daou.sabangnetserver.domain.user.controller;
 
+import com.daou.sabangnetserver.domain.user.dto.HistoryExportRequestDto;
 import com.daou.sabangnetserver.domain.user.dto.HistorySearchRequestDto;
+import com.daou.sabangnetserver.domain.user.service.HistoryExportService;
 import com.daou.sabangnetserver.domain.user.service.HistoryService;
 import com.daou.sabangnetserver.global.common.SuccessResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping(value="/")
 @RestController
@@ -18,13 +23,30 @@ import org.springframework.web.bind.annotation.RestController;
 public class HistoryController {
 
     private final HistoryService historyService;
+    private final HistoryExportService historyExportService;
 
     @GetMapping("/history")
     public ResponseEntity<SuccessResponse> searchHistory(@Valid @ModelAttribute HistorySearchRequestDto requestDto) {
         return ResponseEntity.ok(SuccessResponse.builder()
                 .code(HttpStatus.OK.value())
                 .message("히스토리를 성공적으로 조회했습니다.")
-                .data(historyService.searchHistory(requestDto))
+                .data(requestDto.getCursor() != null
+                        ? historyService.searchHistoryByCursor(requestDto)
+                        : historyService.searchHistory(requestDto))
                 .build());
     }
-}
\ No newline at end of file
+
+    //조회 결과를 페이지 없이 DB 커서에서 바로 응답으로 흘려보냄
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(@ModelAttribute HistoryExportRequestDto requestDto) {
+        String format = HistoryExportService.resolveFormat(requestDto.getFormat());
+        MediaType contentType = HistoryExportService.FORMAT_NDJSON.equals(format)
+                ? MediaType.parseMediaType("application/x-ndjson")
+                : MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"history." + format + "\"")
+                .body(out -> historyExportService.export(requestDto, format, out));
+    }
+}
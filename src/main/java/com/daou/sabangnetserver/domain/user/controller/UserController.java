@@ -8,12 +8,20 @@ import com.daou.sabangnetserver.domain.user.dto.UserSearchRequestDto;
 import com.daou.sabangnetserver.domain.user.dto.UserUpdateMeRequestDto;
 import com.daou.sabangnetserver.domain.user.dto.UserUpdateOthersRequestDto;
 import com.daou.sabangnetserver.domain.user.dto.UserUpdatePasswordDto;
+import com.daou.sabangnetserver.domain.user.service.UserImportService;
 import com.daou.sabangnetserver.domain.user.service.UserService;
+import com.daou.sabangnetserver.global.async.PasswordHashingExecutor;
 import com.daou.sabangnetserver.global.common.SuccessResponse;
+import com.daou.sabangnetserver.global.jwt.TokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -31,6 +39,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final TokenProvider tokenProvider;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @GetMapping("/search")
     public ResponseEntity<SuccessResponse> searchUsers(@Valid @ModelAttribute UserSearchRequestDto requestDto) {
@@ -42,20 +53,31 @@ public class UserController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<SuccessResponse> registerUser(@Valid @RequestBody UserRegisterRequestDto requestDto) {
-        userService.registerUser(requestDto);
-        return ResponseEntity.ok(SuccessResponse.builder()
-                .code(HttpStatus.OK.value())
-                .message("관리자가 정상적으로 등록되었습니다.")
-                .build());
+    public CompletableFuture<ResponseEntity<SuccessResponse>> registerUser(@Valid @RequestBody UserRegisterRequestDto requestDto) {
+        return passwordHashingExecutor.runAsync(() -> userService.registerUser(requestDto))
+                .thenApply(result -> ResponseEntity.ok(SuccessResponse.builder()
+                        .code(HttpStatus.OK.value())
+                        .message("관리자가 정상적으로 등록되었습니다.")
+                        .build()));
+    }
+
+    //CSV(첫 줄은 헤더) 혹은 NDJSON 본문을 읽으면서 행별 등록 결과를 NDJSON으로 바로 내려줌
+    @PostMapping(value = "/register/import", consumes = {"text/csv", "application/x-ndjson"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"));
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userImportService.importUsers(request.getInputStream(), csv, response.getOutputStream());
     }
 
     @DeleteMapping("/delete")
     public ResponseEntity<SuccessResponse> deleteUsers(@RequestBody UserDeleteRequestDto requestDto){
-        userService.deleteUser(requestDto);
         return ResponseEntity.ok(SuccessResponse.builder()
                 .code(HttpStatus.OK.value())
                 .message("관리자가 정상적으로 삭제되었습니다.")
+                .data(userService.deleteUser(requestDto))
                 .build());
     }
 
@@ -70,17 +92,18 @@ public class UserController {
     }
 
     @PatchMapping("/update/password")
-    public ResponseEntity<SuccessResponse> updatePassword(HttpServletRequest httpServletRequest, @Valid @RequestBody UserUpdatePasswordDto requestDto){
-        userService.updatePassword(requestDto, httpServletRequest.getHeader("Authorization").replace("Bearer ", ""));
-        return ResponseEntity.ok(SuccessResponse.builder()
-                .code(HttpStatus.OK.value())
-                .message("비밀번호가 정상적으로 수정되었습니다.")
-                .build());
+    public CompletableFuture<ResponseEntity<SuccessResponse>> updatePassword(HttpServletRequest httpServletRequest, @Valid @RequestBody UserUpdatePasswordDto requestDto){
+        String id = tokenProvider.getIdFromRequest(httpServletRequest);
+        return passwordHashingExecutor.runAsync(() -> userService.updatePassword(requestDto, id))
+                .thenApply(result -> ResponseEntity.ok(SuccessResponse.builder()
+                        .code(HttpStatus.OK.value())
+                        .message("비밀번호가 정상적으로 수정되었습니다.")
+                        .build()));
     }
 
     @PatchMapping("/update/me")
     public ResponseEntity<SuccessResponse> updateMe(HttpServletRequest httpServletRequest, @Valid @RequestBody UserUpdateMeRequestDto requestDto){
-        userService.updateMe(requestDto, httpServletRequest.getHeader("Authorization").replace("Bearer ", ""));
+        userService.updateMe(requestDto, httpServletRequest);
         return ResponseEntity.ok(SuccessResponse.builder()
                 .code(HttpStatus.OK.value())
                 .message("정상적으로 수정되었습니다.")
@@ -98,11 +121,12 @@ public class UserController {
     }
 
     @PostMapping("/checkpassword")
-    public ResponseEntity<SuccessResponse> checkPassword(HttpServletRequest request, @RequestBody LoginRequestDto loginRequestDto) {
-        userService.checkPassword(request,loginRequestDto);
-        return ResponseEntity.ok(SuccessResponse.builder()
-                .code(HttpStatus.OK.value())
-                .message("비밀번호가 일치합니다.")
-                .build());
+    public CompletableFuture<ResponseEntity<SuccessResponse>> checkPassword(HttpServletRequest request, @RequestBody LoginRequestDto loginRequestDto) {
+        String id = tokenProvider.getIdFromRequest(request);
+        return passwordHashingExecutor.runAsync(() -> userService.checkPassword(id, loginRequestDto))
+                .thenApply(result -> ResponseEntity.ok(SuccessResponse.builder()
+                        .code(HttpStatus.OK.value())
+                        .message("비밀번호가 일치합니다.")
+                        .build()));
     }
 }
@@ -0,0 +1,31 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BulkUpdateResponseDto {
+    private int applied;
+    private int already;
+    private int missing;
+    private List<BulkUpdateResultDto> results;
+
+    public static BulkUpdateResponseDto of(List<BulkUpdateResultDto> results) {
+        int applied = 0, already = 0, missing = 0;
+        for (BulkUpdateResultDto result : results) {
+            switch (result.getStatus()) {
+                case APPLIED -> applied++;
+                case ALREADY -> already++;
+                case MISSING -> missing++;
+            }
+        }
+        return BulkUpdateResponseDto.builder()
+                .applied(applied)
+                .already(already)
+                .missing(missing)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkUpdateResultDto {
+    private String id;
+    private BulkUpdateStatus status;
+}
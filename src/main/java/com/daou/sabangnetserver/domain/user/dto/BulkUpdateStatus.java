@@ -0,0 +1,7 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+public enum BulkUpdateStatus {
+    APPLIED,    //이번 요청으로 변경됨
+    ALREADY,    //이미 요청한 상태임
+    MISSING     //존재하지 않거나 삭제된 아이디
+}
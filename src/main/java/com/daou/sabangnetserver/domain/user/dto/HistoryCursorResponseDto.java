@@ -0,0 +1,13 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HistoryCursorResponseDto {
+    private List<HistorySearchDto> histories;
+    private String nextCursor;
+    private boolean hasNext;
+}
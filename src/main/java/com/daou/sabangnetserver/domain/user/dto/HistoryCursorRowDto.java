@@ -0,0 +1,17 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//커서 조회용 행: HistorySearchDto 필드에 다음 커서를 만들 historyId만 추가
+@Getter
+@AllArgsConstructor
+public class HistoryCursorRowDto {
+    private Long historyId;
+    private LocalDateTime loginTime;
+    private String name;
+    private String id;
+    private String loginDevice;
+    private String loginIp;
+}
@@ -0,0 +1,20 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@Builder
+public class HistoryExportRequestDto {
+    private String id;
+    private String name;
+    //from 이상, to 미만
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    //csv(기본값) 혹은 ndjson
+    private String format;
+}
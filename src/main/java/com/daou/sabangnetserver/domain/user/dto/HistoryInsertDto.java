@@ -0,0 +1,14 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HistoryInsertDto {
+    private Long userId;
+    private LocalDateTime loginTime;
+    private Long deviceId; //LOGIN_DEVICE 사전의 DEVICE_ID
+    private String loginIp;
+}
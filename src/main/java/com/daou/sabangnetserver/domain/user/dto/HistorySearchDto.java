@@ -1,11 +1,13 @@
 package com.daou.sabangnetserver.domain.user.dto;
 
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class HistorySearchDto {
     private LocalDateTime loginTime;
     private String name;
@@ -10,4 +10,6 @@ public class HistorySearchRequestDto {
     private String name;
     private int page;
     private int showList;
+    //값이 있으면(빈 문자열은 첫 페이지) page 대신 커서 기반으로 조회
+    private String cursor;
 }
@@ -0,0 +1,13 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LastLoginDto {
+    private Long userId;
+    private String lastLoginIp;
+    private LocalDateTime lastLoginTime;
+}
@@ -0,0 +1,18 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+//로그인 시 조회한 USER_ID를 함께 들고 다녀서 인증 이후 같은 사용자를 다시 조회하지 않도록 함
+@Getter
+public class LoginUserDetails extends User {
+    private final Long userId;
+
+    public LoginUserDetails(Long userId, String username, String password, boolean enabled,
+                            Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.userId = userId;
+    }
+}
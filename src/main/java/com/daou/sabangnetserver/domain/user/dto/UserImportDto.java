@@ -0,0 +1,18 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserImportDto {
+    private String id;
+    private String encodedPassword;
+    private String authorityName;
+    private String name;
+    private String email;
+    private String department;
+    private String memo;
+    private LocalDateTime registrationDate;
+}
@@ -0,0 +1,16 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//가져오기 결과 보고서의 한 줄 (파일의 행 번호 기준)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResultDto {
+    private long row;
+    private String id;
+    private UserImportStatus status;
+    private String message;
+}
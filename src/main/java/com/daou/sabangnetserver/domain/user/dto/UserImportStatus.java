@@ -0,0 +1,6 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+public enum UserImportStatus {
+    CREATED,
+    FAILED
+}
@@ -0,0 +1,13 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//가져오기 결과 보고서의 마지막 줄
+@Getter
+@AllArgsConstructor
+public class UserImportSummaryDto {
+    private long total;
+    private long created;
+    private long failed;
+}
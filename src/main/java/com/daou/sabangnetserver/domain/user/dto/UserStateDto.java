@@ -0,0 +1,12 @@
+package com.daou.sabangnetserver.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//일괄 처리 전 현재 상태 확인용 (아이디, 활성화 여부)
+@Getter
+@AllArgsConstructor
+public class UserStateDto {
+    private String id;
+    private Boolean isUsed;
+}
@@ -2,9 +2,11 @@ package com.daou.sabangnetserver.domain.user.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -15,7 +17,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "HISTORY")
+@Table(name = "HISTORY", indexes = {
+        @Index(name = "IDX_HISTORY_LOGIN_TIME_ID", columnList = "LOGIN_TIME DESC, HISTORY_ID DESC")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -29,8 +33,9 @@ public class History {
     @Column(name ="LOGIN_TIME", nullable = false)
     private LocalDateTime loginTime;
 
-    @Column(name = "LOGIN_DEVICE", nullable = false)
-    private String loginDevice;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "DEVICE_ID", referencedColumnName = "DEVICE_ID", nullable = false, updatable = false)
+    private LoginDevice device;
 
     @Column(name ="LOGIN_IP", nullable = false)
     private String loginIp;
@@ -0,0 +1,48 @@
+package com.daou.sabangnetserver.domain.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//로그인 기기(User-Agent) 사전; HISTORY는 긴 User-Agent 문자열 대신 DEVICE_ID만 저장
+//User-Agent 원문에 unique 인덱스를 거는 대신 SHA-256 hex(64자)로 중복을 막음
+@Entity
+@Table(name = "LOGIN_DEVICE", uniqueConstraints = {
+        @UniqueConstraint(name = "UK_LOGIN_DEVICE_HASH", columnNames = "DEVICE_HASH")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoginDevice {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "DEVICE_ID", nullable = false)
+    private Long deviceId;
+
+    @Column(name = "DEVICE_HASH", nullable = false, length = 64)
+    private String deviceHash;
+
+    @Column(name = "USER_AGENT", nullable = false, length = 512)
+    private String userAgent;
+
+    @Column(name = "BROWSER", nullable = false, length = 50)
+    private String browser;
+
+    @Column(name = "OS", nullable = false, length = 50)
+    private String os;
+
+    @Column(name = "MOBILE", nullable = false)
+    private Boolean mobile;
+
+    @Column(name = "LABEL", nullable = false, length = 120)
+    private String label;
+}
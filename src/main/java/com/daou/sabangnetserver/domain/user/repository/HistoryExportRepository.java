@@ -0,0 +1,69 @@
+package com.daou.sabangnetserver.domain.user.repository;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryExportRequestDto;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+//전체 이력 내보내기용: 결과를 한 번에 메모리에 올리지 않고 forward-only 커서로 한 행씩 콜백에 넘김
+@Repository
+public class HistoryExportRepository {
+
+    private static final String SELECT_HISTORY =
+            "SELECT H.LOGIN_TIME, U.NAME, U.ID, D.LABEL, H.LOGIN_IP "
+                    + "FROM HISTORY H JOIN USERS U ON U.USER_ID = H.USER_ID "
+                    + "JOIN LOGIN_DEVICE D ON D.DEVICE_ID = H.DEVICE_ID";
+
+    private static final String ORDER_BY = " ORDER BY H.LOGIN_TIME DESC, H.HISTORY_ID DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public HistoryExportRepository(JdbcTemplate jdbcTemplate,
+                                   @Value("${history.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void streamHistories(HistoryExportRequestDto requestDto, RowCallbackHandler rowCallbackHandler) {
+        StringBuilder sql = new StringBuilder(SELECT_HISTORY);
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+
+        if (requestDto.getId() != null && !requestDto.getId().isEmpty()) {
+            conditions.add("U.ID = ?");
+            params.add(requestDto.getId());
+        }
+        if (requestDto.getName() != null && !requestDto.getName().isEmpty()) {
+            conditions.add("U.NAME LIKE ?");
+            params.add("%" + requestDto.getName() + "%");
+        }
+        if (requestDto.getFrom() != null) {
+            conditions.add("H.LOGIN_TIME >= ?");
+            params.add(Timestamp.valueOf(requestDto.getFrom()));
+        }
+        if (requestDto.getTo() != null) {
+            conditions.add("H.LOGIN_TIME < ?");
+            params.add(Timestamp.valueOf(requestDto.getTo()));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(ORDER_BY);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, rowCallbackHandler);
+    }
+}
@@ -0,0 +1,57 @@
+package com.daou.sabangnetserver.domain.user.repository;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
+import com.daou.sabangnetserver.domain.user.dto.HistoryInsertDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+//JPA의 IDENTITY 전략은 insert를 batch로 묶을 수 없어 로그인 이력 저장은 JDBC batch로 처리
+@Repository
+@RequiredArgsConstructor
+public class HistoryJdbcRepository {
+
+    private static final String INSERT_HISTORY =
+            "INSERT INTO HISTORY (LOGIN_TIME, DEVICE_ID, LOGIN_IP, USER_ID) VALUES (?, ?, ?, ?)";
+
+    //보관 대상은 (LOGIN_TIME, HISTORY_ID) 오름차순으로 chunk씩 읽어서(keyset) 긴 범위 잠금이나 offset 스캔 없이 처리
+    //오래된 순서로 옮기므로 실행이 중간에 끝나도 보관된 행은 항상 DB에 남은 행보다 오래됨
+    private static final String SELECT_ARCHIVE_CANDIDATES =
+            "SELECT H.HISTORY_ID, H.LOGIN_TIME, U.NAME, U.ID, D.LABEL, H.LOGIN_IP "
+                    + "FROM HISTORY H JOIN USERS U ON U.USER_ID = H.USER_ID "
+                    + "JOIN LOGIN_DEVICE D ON D.DEVICE_ID = H.DEVICE_ID "
+                    + "WHERE H.LOGIN_TIME < ? AND (H.LOGIN_TIME > ? OR (H.LOGIN_TIME = ? AND H.HISTORY_ID > ?)) "
+                    + "ORDER BY H.LOGIN_TIME, H.HISTORY_ID LIMIT ?";
+
+    private static final String DELETE_HISTORY = "DELETE FROM HISTORY WHERE HISTORY_ID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<HistoryInsertDto> histories) {
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, histories, histories.size(), (ps, history) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(history.getLoginTime()));
+            ps.setLong(2, history.getDeviceId());
+            ps.setString(3, history.getLoginIp());
+            ps.setLong(4, history.getUserId());
+        });
+    }
+
+    //(afterTime, afterHistoryId) 다음부터 cutoff 이전의 행을 오래된 순으로 limit개 조회
+    public List<HistoryCursorRowDto> findArchiveCandidates(LocalDateTime cutoff, LocalDateTime afterTime, long afterHistoryId, int limit) {
+        Timestamp after = Timestamp.valueOf(afterTime);
+        return jdbcTemplate.query(SELECT_ARCHIVE_CANDIDATES, (rs, rowNum) -> new HistoryCursorRowDto(
+                rs.getLong(1),
+                rs.getTimestamp(2).toLocalDateTime(),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getString(6)), Timestamp.valueOf(cutoff), after, after, afterHistoryId, limit);
+    }
+
+    public void deleteAllByIds(List<Long> historyIds) {
+        jdbcTemplate.batchUpdate(DELETE_HISTORY, historyIds, historyIds.size(), (ps, historyId) -> ps.setLong(1, historyId));
+    }
+}
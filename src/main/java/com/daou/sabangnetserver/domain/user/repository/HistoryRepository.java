@@ -1,6 +1,11 @@
 package com.daou.sabangnetserver.domain.user.repository;
 
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
+import com.daou.sabangnetserver.domain.user.dto.HistorySearchDto;
 import com.daou.sabangnetserver.domain.user.entity.History;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,16 +17,41 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface HistoryRepository extends JpaRepository<History, Long> {
 
-    @Query("SELECT h " +
+    //HistorySearchDto의 다섯 필드만 조회 (User 엔티티와 권한을 로딩하지 않음); 기기는 LOGIN_DEVICE 사전의 label
+    @Query(value = "SELECT new com.daou.sabangnetserver.domain.user.dto.HistorySearchDto(" +
+            "h.loginTime, u.name, u.id, d.label, h.loginIp) " +
             "FROM History h " +
-            "JOIN FETCH h.user " +
-            "WHERE (:id = '' OR h.user.id = :id) AND " +
-            "(:name = '' OR h.user.name LIKE %:name%)")
-    Page<History> searchHistories(
+            "JOIN h.user u " +
+            "JOIN h.device d " +
+            "WHERE (:id = '' OR u.id = :id) AND " +
+            "(:name = '' OR u.name LIKE %:name%)",
+            countQuery = "SELECT COUNT(h) " +
+            "FROM History h " +
+            "JOIN h.user u " +
+            "WHERE (:id = '' OR u.id = :id) AND " +
+            "(:name = '' OR u.name LIKE %:name%)")
+    Page<HistorySearchDto> searchHistories(
             @Param("id") String id,
             @Param("name") String name,
             Pageable pageable
     );
 
+    //(loginTime, historyId) 내림차순으로 커서 다음 행부터 limit개 조회, COUNT 쿼리 없음
+    @Query("SELECT new com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto(" +
+            "h.historyId, h.loginTime, u.name, u.id, d.label, h.loginIp) " +
+            "FROM History h " +
+            "JOIN h.user u " +
+            "JOIN h.device d " +
+            "WHERE (:id = '' OR u.id = :id) AND " +
+            "(:name = '' OR u.name LIKE %:name%) AND " +
+            "(h.loginTime < :loginTime OR (h.loginTime = :loginTime AND h.historyId < :historyId)) " +
+            "ORDER BY h.loginTime DESC, h.historyId DESC")
+    List<HistoryCursorRowDto> searchHistoriesBefore(
+            @Param("id") String id,
+            @Param("name") String name,
+            @Param("loginTime") LocalDateTime loginTime,
+            @Param("historyId") Long historyId,
+            Limit limit
+    );
 
 }
@@ -0,0 +1,572 @@
+package com.daou.sabangnetserver.domain.user.repository;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
+import com.daou.sabangnetserver.domain.user.util.HistoryCursor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 보존 기간이 지난 로그인 이력을 보관하는 월별 세그먼트 파일 저장소
+ * history-YYYY-MM.seg: Deflate로 압축한 블록을 이어 붙이기만 하는 데이터 파일
+ * history-YYYY-MM.idx: 블록마다 고정 크기 항목 하나 (위치, 시간 범위, historyId 범위, 로그인 아이디 Bloom filter)
+ * 인덱스는 메모리에 두고, 데이터 파일은 memory-mapped I/O로 필요한 블록만 읽음
+ * 보관 작업 중 추가된 블록은 메모리 인덱스에만 더하고 파일에서 직접 읽다가, 작업이 끝나면 remap()으로 한 번만 다시 매핑
+ * 쓰기는 보관 작업 하나만 수행하고, 조회는 교체만 되는 스냅샷을 읽으므로 lock 없이 동시에 가능
+ */
+@Slf4j
+@Repository
+public class HistorySegmentStore implements InitializingBean {
+
+    private static final String FILE_PREFIX = "history-";
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private static final int BLOOM_LONGS = 16;
+    private static final int BLOOM_BITS = BLOOM_LONGS * Long.SIZE;
+    private static final int BLOOM_HASHES = 3;
+    //offset, compressedLength, rawLength, rowCount, min/max epochSecond, min/max historyId, bloom
+    private static final int INDEX_ENTRY_SIZE = 8 + 4 + 4 + 4 + 8 + 8 + 8 + 8 + BLOOM_LONGS * 8;
+    private static final int SKIP_BATCH = 1000;
+
+    private static final Comparator<HistoryCursorRowDto> NEWEST_FIRST = Comparator
+            .comparing(HistoryCursorRowDto::getLoginTime)
+            .thenComparing(HistoryCursorRowDto::getHistoryId)
+            .reversed();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private volatile NavigableMap<YearMonth, Segment> segments = Collections.emptyNavigableMap();
+
+    public HistorySegmentStore(
+            @Value("${history.archive.enabled:false}") boolean enabled,
+            @Value("${history.archive.directory:./history-archive}") String directory) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+
+        NavigableMap<YearMonth, Segment> loaded = new TreeMap<>();
+        try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + INDEX_SUFFIX)) {
+            for (Path indexFile : indexFiles) {
+                String fileName = indexFile.getFileName().toString();
+                YearMonth month = YearMonth.parse(fileName.substring(FILE_PREFIX.length(), fileName.length() - INDEX_SUFFIX.length()));
+                loaded.put(month, loadSegment(month));
+            }
+        }
+        segments = Collections.unmodifiableNavigableMap(loaded);
+        log.info("로그인 이력 보관 세그먼트 {}개를 불러왔습니다. ({})", loaded.size(), directory.toAbsolutePath());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 행을 월별로 나눠 각 세그먼트에 블록 하나씩 추가하고, 데이터와 인덱스를 디스크에 fsync 한 뒤 반환
+     * 반환 후에야 DB에서 삭제해도 안전함
+     * 인덱스 파일을 다시 읽거나 매핑하지 않고, 새 블록만 메모리 스냅샷에 추가
+     */
+    public void append(List<HistoryCursorRowDto> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        appendLock.lock();
+        try {
+            Map<YearMonth, List<HistoryCursorRowDto>> rowsByMonth = rows.stream()
+                    .collect(Collectors.groupingBy(row -> YearMonth.from(row.getLoginTime()), TreeMap::new, Collectors.toList()));
+
+            NavigableMap<YearMonth, Segment> updated = new TreeMap<>(segments);
+            for (Map.Entry<YearMonth, List<HistoryCursorRowDto>> entry : rowsByMonth.entrySet()) {
+                YearMonth month = entry.getKey();
+                BlockIndex block = appendBlock(month, entry.getValue());
+                Segment segment = updated.get(month);
+                updated.put(month, segment == null
+                        ? new Segment(List.of(block), dataPath(month), null)
+                        : segment.withBlock(block));
+            }
+            segments = Collections.unmodifiableNavigableMap(updated);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    //매핑되지 않은 블록이 있는 세그먼트만 데이터 파일을 다시 매핑 (보관 작업이 끝날 때 한 번 호출)
+    public void remap() throws IOException {
+        appendLock.lock();
+        try {
+            NavigableMap<YearMonth, Segment> updated = new TreeMap<>(segments);
+            for (Map.Entry<YearMonth, Segment> entry : segments.entrySet()) {
+                Segment segment = entry.getValue();
+                if (segment.hasUnmappedBlocks()) {
+                    updated.put(entry.getKey(), new Segment(segment.blocks, segment.dataPath, map(segment.dataPath, segment.blocks)));
+                }
+            }
+            segments = Collections.unmodifiableNavigableMap(updated);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    //보관된 가장 최근 행의 로그인 시각; 보관된 행이 없으면 null
+    public LocalDateTime getArchivedUntil() {
+        long maxSecond = segments.values().stream().mapToLong(segment -> segment.maxEpochSecond).max().orElse(Long.MIN_VALUE);
+        return maxSecond == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(maxSecond, 0, ZoneOffset.UTC);
+    }
+
+    //이미 보관된 행 제외 (DB 삭제 전에 중단되었다가 다시 보관하는 경우 중복 방지)
+    public List<HistoryCursorRowDto> filterNotArchived(List<HistoryCursorRowDto> rows) throws IOException {
+        Map<BlockIndex, Set<Long>> archivedIdsByBlock = new HashMap<>();
+        List<HistoryCursorRowDto> notArchived = new ArrayList<>(rows.size());
+
+        for (HistoryCursorRowDto row : rows) {
+            Segment segment = segments.get(YearMonth.from(row.getLoginTime()));
+            boolean archived = false;
+            if (segment != null) {
+                for (BlockIndex block : segment.blocks) {
+                    if (row.getHistoryId() < block.minHistoryId || row.getHistoryId() > block.maxHistoryId) {
+                        continue;
+                    }
+                    Set<Long> archivedIds = archivedIdsByBlock.get(block);
+                    if (archivedIds == null) {
+                        archivedIds = new HashSet<>();
+                        for (HistoryCursorRowDto archivedRow : segment.readBlock(block)) {
+                            archivedIds.add(archivedRow.getHistoryId());
+                        }
+                        archivedIdsByBlock.put(block, archivedIds);
+                    }
+                    if (archivedIds.contains(row.getHistoryId())) {
+                        archived = true;
+                        break;
+                    }
+                }
+            }
+            if (!archived) {
+                notArchived.add(row);
+            }
+        }
+        return notArchived;
+    }
+
+    /**
+     * (beforeTime, beforeHistoryId)보다 오래된 보관 행을 최신순으로 limit개 조회
+     * 블록 시간 범위로 건너뛰고, 아이디 조건이 있으면 Bloom filter로 해당 아이디가 없는 블록을 건너뜀
+     */
+    public List<HistoryCursorRowDto> search(String id, String name, LocalDateTime beforeTime, long beforeHistoryId, int limit) throws IOException {
+        return search(id, name, null, beforeTime, beforeHistoryId, limit);
+    }
+
+    /**
+     * [from, to) 범위의 보관 행을 최신순으로 batchSize개씩 읽어 consumer에 넘김 (내보내기용)
+     * from/to가 null이면 해당 방향으로 제한 없음
+     */
+    public void stream(String id, String name, LocalDateTime from, LocalDateTime to, int batchSize,
+                       Consumer<HistoryCursorRowDto> consumer) throws IOException {
+        //to와 같은 시각의 행은 historyId와 관계없이 제외
+        LocalDateTime beforeTime = to != null ? to : HistoryCursor.FIRST.loginTime();
+        long beforeHistoryId = to != null ? Long.MIN_VALUE : HistoryCursor.FIRST.historyId();
+        while (true) {
+            List<HistoryCursorRowDto> batch = search(id, name, from, beforeTime, beforeHistoryId, batchSize);
+            batch.forEach(consumer);
+            if (batch.size() < batchSize) {
+                return;
+            }
+            beforeTime = batch.getLast().getLoginTime();
+            beforeHistoryId = batch.getLast().getHistoryId();
+        }
+    }
+
+    //from이 있으면 그보다 오래된 블록과 행은 건너뜀
+    private List<HistoryCursorRowDto> search(String id, String name, LocalDateTime from,
+                                             LocalDateTime beforeTime, long beforeHistoryId, int limit) throws IOException {
+        if (!enabled || limit <= 0) {
+            return List.of();
+        }
+
+        long beforeSecond = toEpochSecond(beforeTime);
+        long fromSecond = from != null ? toEpochSecond(from) : Long.MIN_VALUE;
+        //가장 오래된 행이 head에 오도록 해서 limit개를 넘으면 바로 제거
+        PriorityQueue<HistoryCursorRowDto> newest = new PriorityQueue<>(limit + 1, NEWEST_FIRST.reversed());
+
+        for (Segment segment : segments.descendingMap().values()) {
+            if (segment.maxEpochSecond < fromSecond
+                    || (newest.size() == limit && segment.maxEpochSecond < toEpochSecond(newest.peek().getLoginTime()))) {
+                break;
+            }
+            for (BlockIndex block : segment.blocksByNewest) {
+                if (block.minEpochSecond > beforeSecond || block.maxEpochSecond < fromSecond) {
+                    continue;
+                }
+                if (newest.size() == limit && block.maxEpochSecond < toEpochSecond(newest.peek().getLoginTime())) {
+                    break;
+                }
+                if (hasText(id) && !mightContain(block.bloom, id)) {
+                    continue;
+                }
+                for (HistoryCursorRowDto row : segment.readBlock(block)) {
+                    if (!isBefore(row, beforeTime, beforeHistoryId) || !matches(row, id, name)
+                            || (from != null && row.getLoginTime().isBefore(from))) {
+                        continue;
+                    }
+                    newest.offer(row);
+                    if (newest.size() > limit) {
+                        newest.poll();
+                    }
+                }
+            }
+        }
+
+        List<HistoryCursorRowDto> result = new ArrayList<>(newest);
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    /**
+     * 최신순으로 skip개를 건너뛴 뒤 limit개 조회 (offset 페이지에서 DB의 행 다음에 이어지는 부분)
+     * 건너뛰는 행은 SKIP_BATCH개씩 커서로 넘기므로 skip이 커도 메모리에는 한 batch만 올림
+     */
+    public List<HistoryCursorRowDto> searchPage(String id, String name, long skip, int limit) throws IOException {
+        LocalDateTime beforeTime = HistoryCursor.FIRST.loginTime();
+        long beforeHistoryId = HistoryCursor.FIRST.historyId();
+        while (skip > 0) {
+            List<HistoryCursorRowDto> skipped = search(id, name, beforeTime, beforeHistoryId, (int) Math.min(skip, SKIP_BATCH));
+            if (skipped.isEmpty()) {
+                return List.of();
+            }
+            beforeTime = skipped.getLast().getLoginTime();
+            beforeHistoryId = skipped.getLast().getHistoryId();
+            skip -= skipped.size();
+        }
+        return search(id, name, beforeTime, beforeHistoryId, limit);
+    }
+
+    //조건에 맞는 보관 행 수; 조건이 없으면 블록을 읽지 않고 인덱스의 행 수를 합산
+    public long count(String id, String name) throws IOException {
+        if (!enabled) {
+            return 0;
+        }
+        if (!hasText(id) && !hasText(name)) {
+            return getArchivedRowCount();
+        }
+        long count = 0;
+        for (Segment segment : segments.values()) {
+            for (BlockIndex block : segment.blocks) {
+                if (hasText(id) && !mightContain(block.bloom, id)) {
+                    continue;
+                }
+                for (HistoryCursorRowDto row : segment.readBlock(block)) {
+                    if (matches(row, id, name)) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getArchivedRowCount() {
+        return segments.values().stream().mapToLong(segment -> segment.rowCount).sum();
+    }
+
+    private BlockIndex appendBlock(YearMonth month, List<HistoryCursorRowDto> rows) throws IOException {
+        byte[] raw = serialize(rows);
+        byte[] compressed = compress(raw);
+
+        long[] bloom = new long[BLOOM_LONGS];
+        long minSecond = Long.MAX_VALUE, maxSecond = Long.MIN_VALUE;
+        long minHistoryId = Long.MAX_VALUE, maxHistoryId = Long.MIN_VALUE;
+        for (HistoryCursorRowDto row : rows) {
+            long second = toEpochSecond(row.getLoginTime());
+            minSecond = Math.min(minSecond, second);
+            maxSecond = Math.max(maxSecond, second);
+            minHistoryId = Math.min(minHistoryId, row.getHistoryId());
+            maxHistoryId = Math.max(maxHistoryId, row.getHistoryId());
+            addToBloom(bloom, row.getId());
+        }
+
+        long offset;
+        try (FileChannel data = FileChannel.open(dataPath(month), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            offset = data.size();
+            writeFully(data, ByteBuffer.wrap(compressed), offset);
+            data.force(true);
+        }
+
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        entry.putLong(offset).putInt(compressed.length).putInt(raw.length).putInt(rows.size())
+                .putLong(minSecond).putLong(maxSecond).putLong(minHistoryId).putLong(maxHistoryId);
+        for (long word : bloom) {
+            entry.putLong(word);
+        }
+        entry.flip();
+
+        try (FileChannel index = FileChannel.open(indexPath(month), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            //이전 쓰기가 중간에 끊겨 남은 불완전한 항목은 잘라냄
+            long validSize = index.size() - index.size() % INDEX_ENTRY_SIZE;
+            index.truncate(validSize);
+            writeFully(index, entry, validSize);
+            index.force(true);
+        }
+        return new BlockIndex(offset, compressed.length, raw.length, rows.size(),
+                minSecond, maxSecond, minHistoryId, maxHistoryId, bloom);
+    }
+
+    private Segment loadSegment(YearMonth month) throws IOException {
+        List<BlockIndex> blocks = new ArrayList<>();
+        Path indexPath = indexPath(month);
+        if (Files.exists(indexPath)) {
+            ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+            while (index.remaining() >= INDEX_ENTRY_SIZE) {
+                long offset = index.getLong();
+                int compressedLength = index.getInt();
+                int rawLength = index.getInt();
+                int rowCount = index.getInt();
+                long minSecond = index.getLong();
+                long maxSecond = index.getLong();
+                long minHistoryId = index.getLong();
+                long maxHistoryId = index.getLong();
+                long[] bloom = new long[BLOOM_LONGS];
+                for (int i = 0; i < BLOOM_LONGS; i++) {
+                    bloom[i] = index.getLong();
+                }
+                blocks.add(new BlockIndex(offset, compressedLength, rawLength, rowCount,
+                        minSecond, maxSecond, minHistoryId, maxHistoryId, bloom));
+            }
+        }
+
+        return new Segment(blocks, dataPath(month), map(dataPath(month), blocks));
+    }
+
+    //인덱스에 기록된 블록까지만 매핑 (인덱스 기록 전에 끊긴 데이터는 무시)
+    private static MappedByteBuffer map(Path dataPath, List<BlockIndex> blocks) throws IOException {
+        long mappedSize = endOf(blocks);
+        if (mappedSize == 0) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, mappedSize);
+        }
+    }
+
+    private static long endOf(List<BlockIndex> blocks) {
+        return blocks.stream().mapToLong(block -> block.offset + block.compressedLength).max().orElse(0);
+    }
+
+    private Path dataPath(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + DATA_SUFFIX);
+    }
+
+    private Path indexPath(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + INDEX_SUFFIX);
+    }
+
+    private static byte[] serialize(List<HistoryCursorRowDto> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (HistoryCursorRowDto row : rows) {
+                out.writeLong(row.getHistoryId());
+                out.writeLong(toEpochSecond(row.getLoginTime()));
+                out.writeInt(row.getLoginTime().getNano());
+                out.writeUTF(row.getName());
+                out.writeUTF(row.getId());
+                out.writeUTF(row.getLoginDevice());
+                out.writeUTF(row.getLoginIp());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<HistoryCursorRowDto> deserialize(byte[] raw, int rowCount) throws IOException {
+        List<HistoryCursorRowDto> rows = new ArrayList<>(rowCount);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            for (int i = 0; i < rowCount; i++) {
+                long historyId = in.readLong();
+                LocalDateTime loginTime = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                rows.add(new HistoryCursorRowDto(historyId, loginTime, in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+        }
+        return rows;
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(ByteBuffer compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                read += inflater.inflate(raw, read, rawLength - read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("손상된 로그인 이력 보관 블록입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void addToBloom(long[] bloom, String id) {
+        int hash = id.hashCode();
+        int step = Integer.rotateLeft(hash * 0x9E3779B9, 16) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (hash + i * step) & (BLOOM_BITS - 1);
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static boolean mightContain(long[] bloom, String id) {
+        int hash = id.hashCode();
+        int step = Integer.rotateLeft(hash * 0x9E3779B9, 16) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (hash + i * step) & (BLOOM_BITS - 1);
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBefore(HistoryCursorRowDto row, LocalDateTime beforeTime, long beforeHistoryId) {
+        int compared = row.getLoginTime().compareTo(beforeTime);
+        return compared < 0 || (compared == 0 && row.getHistoryId() < beforeHistoryId);
+    }
+
+    //DB 조회와 같은 조건: 아이디는 일치, 이름은 포함
+    private static boolean matches(HistoryCursorRowDto row, String id, String name) {
+        return (!hasText(id) || id.equals(row.getId())) && (!hasText(name) || row.getName().contains(name));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private record BlockIndex(long offset, int compressedLength, int rawLength, int rowCount,
+                              long minEpochSecond, long maxEpochSecond, long minHistoryId, long maxHistoryId,
+                              long[] bloom) {
+    }
+
+    //한 달치 세그먼트의 변경되지 않는 스냅샷 (블록이 추가되면 새 스냅샷으로 교체)
+    private static final class Segment {
+        private final List<BlockIndex> blocks;
+        private final List<BlockIndex> blocksByNewest;
+        private final Path dataPath;
+        private final MappedByteBuffer data;
+        private final long mappedSize;
+        private final long maxEpochSecond;
+        private final long rowCount;
+
+        private Segment(List<BlockIndex> blocks, Path dataPath, MappedByteBuffer data) {
+            this.blocks = List.copyOf(blocks);
+            this.blocksByNewest = blocks.stream()
+                    .sorted(Comparator.comparingLong(BlockIndex::maxEpochSecond).reversed())
+                    .toList();
+            this.dataPath = dataPath;
+            this.data = data;
+            this.mappedSize = data == null ? 0 : data.capacity();
+            this.maxEpochSecond = blocks.stream().mapToLong(BlockIndex::maxEpochSecond).max().orElse(Long.MIN_VALUE);
+            this.rowCount = blocks.stream().mapToLong(BlockIndex::rowCount).sum();
+        }
+
+        //기존 매핑은 그대로 두고 블록만 추가
+        private Segment withBlock(BlockIndex block) {
+            List<BlockIndex> appended = new ArrayList<>(blocks.size() + 1);
+            appended.addAll(blocks);
+            appended.add(block);
+            return new Segment(appended, dataPath, data);
+        }
+
+        private boolean hasUnmappedBlocks() {
+            return endOf(blocks) > mappedSize;
+        }
+
+        //매핑 범위 밖의 블록(이번 보관 작업에서 추가된 블록)은 파일에서 직접 읽음
+        private List<HistoryCursorRowDto> readBlock(BlockIndex block) throws IOException {
+            ByteBuffer compressed;
+            if (block.offset + block.compressedLength <= mappedSize) {
+                compressed = data.slice((int) block.offset, block.compressedLength);
+            } else {
+                compressed = ByteBuffer.allocate(block.compressedLength);
+                try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+                    while (compressed.hasRemaining()) {
+                        if (channel.read(compressed, block.offset + compressed.position()) < 0) {
+                            throw new IOException("로그인 이력 보관 블록을 끝까지 읽을 수 없습니다.");
+                        }
+                    }
+                }
+                compressed.flip();
+            }
+            return deserialize(decompress(compressed, block.rawLength), block.rowCount);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.daou.sabangnetserver.domain.user.repository;
+
+import com.daou.sabangnetserver.domain.auth.dto.DeviceInfo;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LoginDeviceJdbcRepository {
+
+    private static final String SELECT_DEVICE_ID = "SELECT DEVICE_ID FROM LOGIN_DEVICE WHERE DEVICE_HASH = ?";
+
+    private static final String INSERT_DEVICE =
+            "INSERT INTO LOGIN_DEVICE (DEVICE_HASH, USER_AGENT, BROWSER, OS, MOBILE, LABEL) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long findIdByHash(String deviceHash) {
+        List<Long> deviceIds = jdbcTemplate.queryForList(SELECT_DEVICE_ID, Long.class, deviceHash);
+        return deviceIds.isEmpty() ? null : deviceIds.getFirst();
+    }
+
+    //DEVICE_HASH가 이미 있으면 DuplicateKeyException 발생
+    public Long insert(String deviceHash, DeviceInfo deviceInfo) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_DEVICE, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, deviceHash);
+            ps.setString(2, deviceInfo.userAgent());
+            ps.setString(3, deviceInfo.browser());
+            ps.setString(4, deviceInfo.os());
+            ps.setBoolean(5, deviceInfo.mobile());
+            ps.setString(6, deviceInfo.label());
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,51 @@
+package com.daou.sabangnetserver.domain.user.repository;
+
+import com.daou.sabangnetserver.domain.user.dto.LastLoginDto;
+import com.daou.sabangnetserver.domain.user.dto.UserImportDto;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE USERS SET LAST_LOGIN_TIME = ?, LAST_LOGIN_IP = ? WHERE USER_ID = ?";
+
+    private static final String INSERT_USER =
+            "INSERT INTO USERS (ID, PASSWORD, NAME, EMAIL, DEPARTMENT, MEMO, REGISTRATION_DATE, IS_USED, IS_DELETE) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, FALSE)";
+
+    private static final String INSERT_USER_AUTHORITY =
+            "INSERT INTO USER_AUTHORITY (AUTHORITY_NAME, ID) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateLastLoginInfo(List<LastLoginDto> lastLogins) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, lastLogins, lastLogins.size(), (ps, lastLogin) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(lastLogin.getLastLoginTime()));
+            ps.setString(2, lastLogin.getLastLoginIp());
+            ps.setLong(3, lastLogin.getUserId());
+        });
+    }
+
+    //사용자와 권한을 각각 JDBC batch로 저장 (등록 직후에는 /register와 같이 비활성 상태)
+    public void insertAll(List<UserImportDto> users) {
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getId());
+            ps.setString(2, user.getEncodedPassword());
+            ps.setString(3, user.getName());
+            ps.setString(4, user.getEmail());
+            ps.setString(5, user.getDepartment());
+            ps.setString(6, user.getMemo());
+            ps.setTimestamp(7, Timestamp.valueOf(user.getRegistrationDate()));
+        });
+        jdbcTemplate.batchUpdate(INSERT_USER_AUTHORITY, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getAuthorityName());
+            ps.setString(2, user.getId());
+        });
+    }
+}
@@ -1,10 +1,16 @@
 package com.daou.sabangnetserver.domain.user.repository;
 
+import com.daou.sabangnetserver.domain.user.dto.UserDto;
+import com.daou.sabangnetserver.domain.user.dto.UserStateDto;
 import com.daou.sabangnetserver.domain.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,14 +18,25 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    @Query("SELECT u FROM User u WHERE " +
+    //권한까지 한 번의 SQL로 UserDto에 바로 담음 (User 엔티티와 EAGER 권한 컬렉션을 로딩하지 않음)
+    @Query(value = "SELECT new com.daou.sabangnetserver.domain.user.dto.UserDto(" +
+            "u.userId, " +
+            "(SELECT SUBSTRING(MIN(a.authorityName), 6) FROM u.authorities a), " +
+            "u.id, u.name, u.email, u.department, u.memo, u.registrationDate, u.lastLoginTime, u.lastLoginIp, u.isUsed) " +
+            "FROM User u WHERE " +
             "(:id = '' OR u.id = :id) AND " +
             "(:name = '' OR u.name LIKE %:name%) AND " +
             "(:email = '' OR u.email LIKE %:email%) AND " +
             "(:isUsed IS NULL OR u.isUsed = :isUsed) AND " +
-            "(isDelete = FALSE)"
+            "(u.isDelete = FALSE)",
+            countQuery = "SELECT COUNT(u) FROM User u WHERE " +
+            "(:id = '' OR u.id = :id) AND " +
+            "(:name = '' OR u.name LIKE %:name%) AND " +
+            "(:email = '' OR u.email LIKE %:email%) AND " +
+            "(:isUsed IS NULL OR u.isUsed = :isUsed) AND " +
+            "(u.isDelete = FALSE)"
     )
-    Page<User> searchUsers(
+    Page<UserDto> searchUsers(
             @Param("id") String id,
             @Param("name") String name,
             @Param("email") String email,
@@ -28,8 +45,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     );
 
     Optional<User> findByIdAndIsDeleteFalse(String id);
+    @EntityGraph(attributePaths = "authorities")
     Optional<User> findOneWithAuthoritiesByIdAndIsDeleteFalse(String id);
 
+    @Modifying
+    @Query("UPDATE User u SET u.pw = :pw WHERE u.id = :id AND u.isDelete = FALSE")
+    int updatePassword(@Param("id") String id, @Param("pw") String pw);
+
+    @Query("SELECT new com.daou.sabangnetserver.domain.user.dto.UserStateDto(u.id, u.isUsed) " +
+            "FROM User u WHERE u.id IN :ids AND u.isDelete = FALSE")
+    List<UserStateDto> findStatesByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.isUsed = TRUE WHERE u.id IN :ids AND u.isDelete = FALSE AND u.isUsed = FALSE")
+    int approveAllByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.isUsed = FALSE, u.isDelete = TRUE WHERE u.id IN :ids AND u.isDelete = FALSE")
+    int softDeleteAllByIds(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.isDelete = FALSE")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails AND u.isDelete = FALSE")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     boolean existsByIdAndIsDeleteFalse(String id);
     boolean existsByEmailAndIsDeleteFalse(String email);
 }
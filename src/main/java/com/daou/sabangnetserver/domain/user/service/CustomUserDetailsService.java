@@ -1,5 +1,6 @@
 package com.daou.sabangnetserver.domain.user.service;
 
+import com.daou.sabangnetserver.domain.user.dto.LoginUserDetails;
 import com.daou.sabangnetserver.domain.user.entity.User;
 import com.daou.sabangnetserver.domain.user.repository.UserRepository;
 import com.daou.sabangnetserver.global.error.UserNotFoundException;
@@ -10,28 +11,42 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component("userDetailsService")
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
 //    loadUserByUsername에서의 username = 로그인 시 사용하는 id
-//    로그인 시 DB에서 유저 정보 및 권한을 가져와서 userdetails.User 객체 생성, 반환
+//    로그인 시 DB에서 유저 정보 및 권한을 한 번에 가져와서 userdetails.User 객체 생성, 반환
+//    비활성화된 사용자는 enabled = false로 만들어 비밀번호 비교(BCrypt) 전에 DisabledException 발생
     public UserDetails loadUserByUsername(final String username) throws UserNotFoundException {
         return userRepository.findOneWithAuthoritiesByIdAndIsDeleteFalse(username)
                 .map(this::createUser) //해당 user 제외 전부 user entity사용
                 .orElseThrow(() -> new UserNotFoundException(HttpStatus.NOT_FOUND.value(), username + " 를 데이터 베이스에서 찾을 수 없습니다."));
     }
 
-    private org.springframework.security.core.userdetails.User createUser(User user) {
+    //로그인 성공 시 저장된 해시의 BCrypt cost가 현재 설정과 다르면 DaoAuthenticationProvider가 새 해시로 호출
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+
+        LoginUserDetails loginUser = (LoginUserDetails) user;
+        return new LoginUserDetails(loginUser.getUserId(), loginUser.getUsername(), newPassword,
+                loginUser.isEnabled(), loginUser.getAuthorities());
+    }
+
+    private LoginUserDetails createUser(User user) {
         List<GrantedAuthority> grantedAuthorities = user.getAuthorities().stream()
                 .map(authority -> new SimpleGrantedAuthority(authority.getAuthorityName()))
                 .collect(Collectors.toList());
 
-        return new org.springframework.security.core.userdetails.User(user.getId(), user.getPw(),grantedAuthorities);
+        return new LoginUserDetails(user.getUserId(), user.getId(), user.getPw(), user.getIsUsed(), grantedAuthorities);
     }
 }
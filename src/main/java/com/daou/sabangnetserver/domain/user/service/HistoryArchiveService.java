@@ -0,0 +1,143 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
+import com.daou.sabangnetserver.domain.user.repository.HistoryJdbcRepository;
+import com.daou.sabangnetserver.domain.user.repository.HistorySegmentStore;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보존 기간(retention-days)이 지난 로그인 이력을 HISTORY 테이블에서 세그먼트 파일로 옮김
+ * (LOGIN_TIME, HISTORY_ID) 오래된 순으로 chunk 단위로 읽기 -> 세그먼트에 추가하고 fsync -> 해당 행만 짧은 트랜잭션으로 삭제
+ * 옮긴 행은 DB에서 지워지므로 DB에 남은 가장 오래된 행이 다음 실행의 시작 위치가 됨
+ * 중간에 멈춰도 다음 실행에서 이미 보관된 행은 다시 쓰지 않고 삭제만 함
+ * 스케줄러 스레드는 실행만 요청하고 작업은 전용 스레드에서 수행 (다른 @Scheduled 작업이 기다리지 않도록)
+ * 한 번 실행에 max-rows-per-run건 또는 max-duration-ms까지만 옮기고, 남은 행은 다음 실행에서 처리
+ */
+@Slf4j
+@Service
+public class HistoryArchiveService implements DisposableBean {
+
+    //모든 로그인 이력보다 앞선 시작 위치
+    private static final LocalDateTime ARCHIVE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final HistoryJdbcRepository historyJdbcRepository;
+    private final HistorySegmentStore historySegmentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long maxRowsPerRun;
+    private final long maxDurationNanos;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "history-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public HistoryArchiveService(
+            HistoryJdbcRepository historyJdbcRepository,
+            HistorySegmentStore historySegmentStore,
+            TransactionTemplate transactionTemplate,
+            @Value("${history.archive.retention-days:90}") int retentionDays,
+            @Value("${history.archive.chunk-size:1000}") int chunkSize,
+            @Value("${history.archive.max-rows-per-run:500000}") long maxRowsPerRun,
+            @Value("${history.archive.max-duration-ms:1800000}") long maxDurationMillis) {
+        this.historyJdbcRepository = historyJdbcRepository;
+        this.historySegmentStore = historySegmentStore;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxRowsPerRun = maxRowsPerRun;
+        this.maxDurationNanos = TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+    }
+
+    //이전 실행이 아직 끝나지 않았으면 건너뜀
+    @Scheduled(cron = "${history.archive.cron:0 30 3 * * *}")
+    public void scheduleArchive() {
+        if (!historySegmentStore.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                archive();
+            } catch (RuntimeException e) {
+                log.error("로그인 이력 보관에 실패했습니다.", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    //옮긴 행 수 반환
+    public long archive() {
+        if (!historySegmentStore.isEnabled()) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays).withNano(0);
+        long startNanos = System.nanoTime();
+        LocalDateTime afterTime = ARCHIVE_START;
+        long afterHistoryId = 0;
+        long movedCount = 0;
+
+        while (movedCount < maxRowsPerRun && System.nanoTime() - startNanos < maxDurationNanos
+                && !Thread.currentThread().isInterrupted()) {
+            int limit = (int) Math.min(chunkSize, maxRowsPerRun - movedCount);
+            List<HistoryCursorRowDto> rows = historyJdbcRepository.findArchiveCandidates(cutoff, afterTime, afterHistoryId, limit);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            try {
+                historySegmentStore.append(historySegmentStore.filterNotArchived(rows));
+            } catch (IOException e) {
+                log.error("로그인 이력 보관 중 세그먼트 파일 쓰기에 실패했습니다. 남은 행은 다음 실행에서 처리합니다.", e);
+                break;
+            }
+
+            List<Long> historyIds = rows.stream().map(HistoryCursorRowDto::getHistoryId).toList();
+            transactionTemplate.executeWithoutResult(status -> historyJdbcRepository.deleteAllByIds(historyIds));
+
+            movedCount += rows.size();
+            afterTime = rows.getLast().getLoginTime();
+            afterHistoryId = rows.getLast().getHistoryId();
+        }
+
+        //이번 실행에서 추가된 블록을 한 번에 매핑
+        try {
+            historySegmentStore.remap();
+        } catch (IOException e) {
+            log.error("로그인 이력 보관 세그먼트를 다시 매핑하지 못했습니다. 추가된 블록은 파일에서 직접 읽습니다.", e);
+        }
+
+        if (movedCount > 0) {
+            log.info("{} 이전 로그인 이력 {}건을 보관했습니다. ({}ms)", cutoff, movedCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+        if (movedCount >= maxRowsPerRun) {
+            log.info("한 번에 옮기는 최대 건수({}건)에 도달해 남은 이력은 다음 실행에서 보관합니다.", maxRowsPerRun);
+        }
+        return movedCount;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("로그인 이력 보관 작업을 완료하지 못하고 종료합니다.");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
+import com.daou.sabangnetserver.domain.user.dto.HistoryExportRequestDto;
+import com.daou.sabangnetserver.domain.user.repository.HistoryExportRepository;
+import com.daou.sabangnetserver.domain.user.repository.HistorySegmentStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 이력 전체 내보내기 (CSV / NDJSON)
+ * DB 커서에서 읽은 행을 바로 응답 스트림에 쓰고, 이어서 보관된 이력을 batch 단위로 읽어 쓰므로 행 수와 관계없이 힙 사용량이 일정함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HistoryExportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final String CSV_HEADER = "loginTime,name,id,loginDevice,loginIp";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final DateTimeFormatter LOGIN_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int ARCHIVE_BATCH_SIZE = 1000;
+
+    private final HistoryExportRepository historyExportRepository;
+    private final HistorySegmentStore historySegmentStore;
+    private final ObjectMapper objectMapper;
+
+    public static String resolveFormat(String format) {
+        if (format == null || format.isBlank() || FORMAT_CSV.equalsIgnoreCase(format)) {
+            return FORMAT_CSV;
+        }
+        if (FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            return FORMAT_NDJSON;
+        }
+        throw new RuntimeException("지원하지 않는 내보내기 형식입니다.");
+    }
+
+    public void export(HistoryExportRequestDto requestDto, String format, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        long[] rowCount = new long[1];
+
+        if (FORMAT_NDJSON.equals(format)) {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                historyExportRepository.streamHistories(requestDto, rs -> {
+                    writeJson(generator, rs.getTimestamp(1).toLocalDateTime(), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5));
+                    rowCount[0]++;
+                });
+                streamArchived(requestDto, row -> {
+                    writeJson(generator, row.getLoginTime(), row.getName(), row.getId(), row.getLoginDevice(), row.getLoginIp());
+                    rowCount[0]++;
+                });
+                generator.flush();
+            }
+        } else {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            historyExportRepository.streamHistories(requestDto, rs -> {
+                writeCsv(writer, rs.getTimestamp(1).toLocalDateTime(), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5));
+                rowCount[0]++;
+            });
+            streamArchived(requestDto, row -> {
+                writeCsv(writer, row.getLoginTime(), row.getName(), row.getId(), row.getLoginDevice(), row.getLoginIp());
+                rowCount[0]++;
+            });
+            writer.flush();
+        }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        log.info("로그인 이력 내보내기 완료: {}건, {}ms, 초당 {}건", rowCount[0], elapsedMillis, rowCount[0] * 1000 / elapsedMillis);
+    }
+
+    //보관된 이력은 모두 DB에 남은 이력보다 오래되었으므로(HistoryArchiveService) DB 커서 다음에 같은 조건과 순서로 이어서 씀
+    private void streamArchived(HistoryExportRequestDto requestDto, Consumer<HistoryCursorRowDto> consumer) throws IOException {
+        if (!historySegmentStore.isEnabled()) {
+            return;
+        }
+        historySegmentStore.stream(requestDto.getId(), requestDto.getName(), requestDto.getFrom(), requestDto.getTo(),
+                ARCHIVE_BATCH_SIZE, consumer);
+    }
+
+    private void writeJson(JsonGenerator generator, LocalDateTime loginTime, String name, String id, String loginDevice, String loginIp) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("loginTime", loginTime.format(LOGIN_TIME_FORMATTER));
+            generator.writeStringField("name", name);
+            generator.writeStringField("id", id);
+            generator.writeStringField("loginDevice", loginDevice);
+            generator.writeStringField("loginIp", loginIp);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Writer writer, LocalDateTime loginTime, String name, String id, String loginDevice, String loginIp) {
+        try {
+            writer.write(loginTime.format(LOGIN_TIME_FORMATTER));
+            writer.write(',');
+            writer.write(escapeCsv(name));
+            writer.write(',');
+            writer.write(escapeCsv(id));
+            writer.write(',');
+            writer.write(escapeCsv(loginDevice));
+            writer.write(',');
+            writer.write(escapeCsv(loginIp));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //이름처럼 사용자가 입력한 값이 =, +, -, @, 탭, CR로 시작하면 스프레드시트가 수식으로 실행하므로 앞에 '를 붙여 문자열로 취급되게 함
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+        if (!formula && value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + (formula ? "'" : "") + value.replace("\"", "\"\"") + '"';
+    }
+}
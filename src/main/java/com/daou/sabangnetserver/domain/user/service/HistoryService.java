@@ -1,47 +1,138 @@
 package com.daou.sabangnetserver.domain.user.service;
 
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorResponseDto;
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
 import com.daou.sabangnetserver.domain.user.dto.HistorySearchDto;
 import com.daou.sabangnetserver.domain.user.dto.HistorySearchRequestDto;
 import com.daou.sabangnetserver.domain.user.dto.HistorySearchResponseDto;
-import com.daou.sabangnetserver.domain.user.entity.History;
 import com.daou.sabangnetserver.domain.user.repository.HistoryRepository;
+import com.daou.sabangnetserver.domain.user.repository.HistorySegmentStore;
+import com.daou.sabangnetserver.domain.user.util.HistoryCursor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class HistoryService {
 
+    private static final Comparator<HistoryCursorRowDto> NEWEST_FIRST = Comparator
+            .comparing(HistoryCursorRowDto::getLoginTime)
+            .thenComparing(HistoryCursorRowDto::getHistoryId)
+            .reversed();
+
     private final HistoryRepository historyRepo;
+    private final HistorySegmentStore historySegmentStore;
 
-    private HistorySearchDto toHistorySearchDto(History result){
+    private HistorySearchDto toHistorySearchDto(HistoryCursorRowDto row){
         return HistorySearchDto.builder()
-                .loginTime(result.getLoginTime())
-                .name(result.getUser().getName())
-                .id(result.getUser().getId())
-                .loginDevice(result.getLoginDevice())
-                .loginIp(result.getLoginIp())
+                .loginTime(row.getLoginTime())
+                .name(row.getName())
+                .id(row.getId())
+                .loginDevice(row.getLoginDevice())
+                .loginIp(row.getLoginIp())
                 .build();
     }
 
+    //보관된 이력은 모두 DB에 남은 이력보다 오래되었으므로(HistoryArchiveService) DB의 행 뒤에 이어 붙여 한 목록으로 페이징
+    @Transactional(readOnly = true)
     public HistorySearchResponseDto searchHistory(HistorySearchRequestDto requestDto){
         Pageable pageable = PageRequest.of(requestDto.getPage() - 1, requestDto.getShowList(), Sort.by("loginTime").descending());
 
-        Page<History> historyPage = historyRepo.searchHistories(requestDto.getId(), requestDto.getName(), pageable);
+        Page<HistorySearchDto> historyPage = historyRepo.searchHistories(requestDto.getId(), requestDto.getName(), pageable);
+
+        List<HistorySearchDto> historyDtos = historyPage.getContent();
+        long totalLists = historyPage.getTotalElements();
 
-        List<HistorySearchDto> historyDtos = historyPage.getContent().stream().map(this::toHistorySearchDto).collect(Collectors.toList());
+        if (historySegmentStore.isEnabled()) {
+            try {
+                long archivedCount = historySegmentStore.count(requestDto.getId(), requestDto.getName());
+                //DB의 행으로 페이지가 다 차지 않으면 나머지를 보관된 이력의 앞부분에서 채움
+                if (archivedCount > 0 && historyDtos.size() < pageable.getPageSize()) {
+                    long archiveOffset = Math.max(0, pageable.getOffset() - totalLists);
+                    List<HistorySearchDto> histories = new ArrayList<>(historyDtos);
+                    historySegmentStore.searchPage(requestDto.getId(), requestDto.getName(), archiveOffset, pageable.getPageSize() - historyDtos.size())
+                            .forEach(row -> histories.add(toHistorySearchDto(row)));
+                    historyDtos = histories;
+                }
+                totalLists += archivedCount;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
 
         return HistorySearchResponseDto.builder()
-                .totalLists((int) historyPage.getTotalElements())
+                .totalLists((int) totalLists)
                 .histories(historyDtos)
-                .totalPages(historyPage.getTotalPages())
+                .totalPages((int) ((totalLists + pageable.getPageSize() - 1) / pageable.getPageSize()))
                 .build();
     }
 
+    //offset 대신 마지막 행의 (loginTime, historyId) 다음부터 조회, 한 건 더 읽어서 다음 페이지 여부 판단
+    @Transactional(readOnly = true)
+    public HistoryCursorResponseDto searchHistoryByCursor(HistorySearchRequestDto requestDto){
+        if (requestDto.getShowList() < 1) {
+            throw new RuntimeException("조회 개수는 1 이상이어야 합니다.");
+        }
+
+        HistoryCursor cursor = HistoryCursor.decode(requestDto.getCursor());
+
+        List<HistoryCursorRowDto> histories = new ArrayList<>(historyRepo.searchHistoriesBefore(requestDto.getId(), requestDto.getName(),
+                cursor.loginTime(), cursor.historyId(), Limit.of(requestDto.getShowList() + 1)));
+
+        //보관된 이력에서도 같은 커서 다음의 행을 읽어 (loginTime, historyId) 내림차순으로 합침
+        //보관 작업이 오래된 순으로 옮기므로 보통은 DB의 행 뒤에 이어지지만, 순서를 가정하지 않고 두 결과를 병합
+        if (historySegmentStore.isEnabled()) {
+            try {
+                histories = merge(histories, historySegmentStore.search(requestDto.getId(), requestDto.getName(),
+                        cursor.loginTime(), cursor.historyId(), requestDto.getShowList() + 1));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        boolean hasNext = histories.size() > requestDto.getShowList();
+        if (hasNext) {
+            histories = histories.subList(0, requestDto.getShowList());
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            HistoryCursorRowDto last = histories.getLast();
+            nextCursor = new HistoryCursor(last.getLoginTime(), last.getHistoryId()).encode();
+        }
+
+        return HistoryCursorResponseDto.builder()
+                .histories(histories.stream().map(this::toHistorySearchDto).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    //보관 후 DB에서 삭제되기 전에 중단된 행은 양쪽에 모두 있으므로 같은 historyId는 한 번만 포함
+    private static List<HistoryCursorRowDto> merge(List<HistoryCursorRowDto> histories, List<HistoryCursorRowDto> archived) {
+        List<HistoryCursorRowDto> merged = new ArrayList<>(histories.size() + archived.size());
+        merged.addAll(histories);
+        merged.addAll(archived);
+        merged.sort(NEWEST_FIRST);
+
+        List<HistoryCursorRowDto> distinct = new ArrayList<>(merged.size());
+        for (HistoryCursorRowDto row : merged) {
+            if (distinct.isEmpty() || !distinct.getLast().getHistoryId().equals(row.getHistoryId())) {
+                distinct.add(row);
+            }
+        }
+        return distinct;
+    }
 }
@@ -0,0 +1,191 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryInsertDto;
+import com.daou.sabangnetserver.domain.user.repository.HistoryJdbcRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그인 이력 write-behind 저장
+ * 로그인 요청은 큐에 넣기만 하고, 백그라운드 writer가 batch-size 또는 flush-interval 기준으로 모아서 JDBC batch insert
+ * 큐가 가득 차면 offer-timeout 만큼 기다린 후 요청 스레드에서 직접 저장(spill-over), 종료 시에는 큐를 모두 비우고 종료
+ */
+@Slf4j
+@Service
+public class HistoryWriteBehindService implements InitializingBean, DisposableBean {
+
+    private final HistoryJdbcRepository historyJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<HistoryInsertDto> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    public HistoryWriteBehindService(
+            HistoryJdbcRepository historyJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${history.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${history.write-behind.batch-size:500}") int batchSize,
+            @Value("${history.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${history.write-behind.offer-timeout-ms:50}") long offerTimeoutMillis,
+            @Value("${history.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.historyJdbcRepository = historyJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        writer = new Thread(this::runWriter, "history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    //로그인 이력을 큐에 추가; 큐가 가득 차 있으면 요청 스레드에서 바로 저장
+    public void enqueue(HistoryInsertDto history) {
+        if (running) {
+            try {
+                if (queue.offer(history, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            spilledCount.increment();
+        }
+        flush(List.of(history));
+    }
+
+    private void runWriter() {
+        List<HistoryInsertDto> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                HistoryInsertDto first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, System.nanoTime() + flushIntervalNanos);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("로그인 이력 writer에서 예외가 발생했습니다.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    //batch-size가 찰 때까지 또는 deadline까지 큐에서 꺼내서 batch 구성
+    private void fillBatch(List<HistoryInsertDto> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            HistoryInsertDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<HistoryInsertDto> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> historyJdbcRepository.insertAll(batch));
+            writtenCount.add(batch.size());
+        } catch (RuntimeException e) {
+            failedCount.add(batch.size());
+            log.error("로그인 이력 {}건 저장에 실패했습니다.", batch.size(), e);
+        }
+        long elapsed = System.nanoTime() - start;
+        flushCount.increment();
+        lastBatchSize.set(batch.size());
+        lastFlushNanos.set(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    //graceful shutdown 시 writer를 멈추고 남은 이력을 모두 저장
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeoutMillis);
+
+        List<HistoryInsertDto> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+        log.info("로그인 이력 writer를 종료했습니다. 저장: {}건, spill-over: {}건, 실패: {}건",
+                writtenCount.sum(), spilledCount.sum(), failedCount.sum());
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    public long getLastFlushNanos() {
+        return lastFlushNanos.get();
+    }
+
+    public long getMaxFlushNanos() {
+        return maxFlushNanos.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+}
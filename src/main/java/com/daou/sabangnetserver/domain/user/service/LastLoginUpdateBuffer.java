@@ -0,0 +1,67 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.user.dto.LastLoginDto;
+import com.daou.sabangnetserver.domain.user.repository.UserJdbcRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 마지막 로그인 시간/IP 갱신을 메모리에 모아서 주기적으로 한 번에 반영
+ * 같은 사용자가 여러 번 로그인해도 가장 최근 값 하나만 남기므로 USERS row에 대한 update 경합이 줄어듦
+ * 아직 반영되지 않은 값은 getPending으로 조회해 화면에 최신 값이 보이도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LastLoginUpdateBuffer implements DisposableBean {
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LastLoginDto> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId, String lastLoginIp, LocalDateTime lastLoginTime) {
+        pending.merge(userId, new LastLoginDto(userId, lastLoginIp, lastLoginTime),
+                (current, updated) -> updated.getLastLoginTime().isBefore(current.getLastLoginTime()) ? current : updated);
+    }
+
+    public LastLoginDto getPending(Long userId) {
+        return pending.get(userId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${user.last-login.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<LastLoginDto> lastLogins = new ArrayList<>(pending.values());
+        try {
+            transactionTemplate.executeWithoutResult(status -> userJdbcRepository.updateLastLoginInfo(lastLogins));
+        } catch (RuntimeException e) {
+            log.error("마지막 로그인 정보 {}건 반영에 실패했습니다.", lastLogins.size(), e);
+            return;
+        }
+
+        //반영하는 동안 새로 로그인한 사용자의 값은 지우지 않고 다음 주기에 반영
+        lastLogins.forEach(lastLogin -> pending.remove(lastLogin.getUserId(), lastLogin));
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,66 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.auth.dto.DeviceInfo;
+import com.daou.sabangnetserver.domain.user.repository.LoginDeviceJdbcRepository;
+import com.daou.sabangnetserver.global.cache.BoundedCache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * User-Agent를 LOGIN_DEVICE 사전의 DEVICE_ID로 변환
+ * 대부분 캐시에서 바로 리턴하고, 처음 보는 User-Agent만 DB에서 조회/등록
+ */
+@Service
+public class LoginDeviceService {
+
+    private final LoginDeviceJdbcRepository loginDeviceJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BoundedCache<String, Long> deviceIds;
+
+    public LoginDeviceService(
+            LoginDeviceJdbcRepository loginDeviceJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${user-agent.cache.max-size:1000}") int maxSize) {
+        this.loginDeviceJdbcRepository = loginDeviceJdbcRepository;
+        //호출한 쪽 트랜잭션이 롤백되어도 캐시에 넣은 DEVICE_ID가 남아 있도록 별도 트랜잭션으로 등록
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.deviceIds = new BoundedCache<>(maxSize);
+    }
+
+    public Long getDeviceId(DeviceInfo deviceInfo) {
+        return deviceIds.get(deviceInfo.userAgent(), userAgent -> findOrInsert(deviceInfo));
+    }
+
+    private Long findOrInsert(DeviceInfo deviceInfo) {
+        String deviceHash = hash(deviceInfo.userAgent());
+        Long deviceId = loginDeviceJdbcRepository.findIdByHash(deviceHash);
+        if (deviceId != null) {
+            return deviceId;
+        }
+        try {
+            return transactionTemplate.execute(status -> loginDeviceJdbcRepository.insert(deviceHash, deviceInfo));
+        } catch (DuplicateKeyException e) {
+            //다른 요청이 먼저 등록한 경우
+            return loginDeviceJdbcRepository.findIdByHash(deviceHash);
+        }
+    }
+
+    //data.sql의 RAWTOHEX(HASH('SHA-256', USER_AGENT))와 같은 값 (UTF-8, 소문자 hex)
+    public static String hash(String userAgent) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(userAgent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 승인/삭제 요청의 아이디 개수 제한과 IN 절 분할 크기
+ */
+@Component
+public class UserBulkLimits {
+
+    private final int maxIds;
+    private final int chunkSize;
+
+    public UserBulkLimits(
+            @Value("${user.bulk.max-ids:1000}") int maxIds,
+            @Value("${user.bulk.chunk-size:500}") int chunkSize) {
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+    }
+
+    //중복을 제거하고 요청 순서를 유지한 아이디 목록, 개수 제한을 넘으면 예외
+    public List<String> distinctIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new RuntimeException("처리할 아이디가 없습니다.");
+        }
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.size() > maxIds) {
+            throw new RuntimeException("한 번에 처리할 수 있는 아이디는 최대 " + maxIds + "개입니다.");
+        }
+        return distinctIds;
+    }
+
+    public List<List<String>> partition(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
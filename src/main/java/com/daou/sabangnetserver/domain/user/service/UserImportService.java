@@ -0,0 +1,315 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import com.daou.sabangnetserver.domain.user.dto.UserImportDto;
+import com.daou.sabangnetserver.domain.user.dto.UserImportResultDto;
+import com.daou.sabangnetserver.domain.user.dto.UserImportStatus;
+import com.daou.sabangnetserver.domain.user.dto.UserImportSummaryDto;
+import com.daou.sabangnetserver.domain.user.dto.UserRegisterRequestDto;
+import com.daou.sabangnetserver.domain.user.repository.UserJdbcRepository;
+import com.daou.sabangnetserver.domain.user.repository.UserRepository;
+import com.daou.sabangnetserver.global.async.PasswordHashingExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 일괄 등록 (CSV 혹은 NDJSON)
+ * 본문을 한 줄씩 읽어 chunk-size 행마다 DB 중복 확인, BCrypt 해싱(PasswordHashingExecutor), JDBC batch 저장을 수행하고
+ * 행별 결과를 NDJSON으로 바로 내려보내므로 파일 크기와 관계없이 한 chunk만 메모리에 유지
+ * (파일 안의 중복 확인을 위한 아이디/이메일 Set만 행 수에 비례해서 커지고, max-rows로 제한)
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserJdbcRepository userJdbcRepository,
+            PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashingExecutor,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${user.import.chunk-size:500}") int chunkSize,
+            @Value("${user.import.max-rows:100000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    //csv가 true이면 첫 줄을 헤더(UserRegisterRequestDto 필드명)로 사용, 아니면 한 줄에 JSON 객체 하나
+    public void importUsers(InputStream in, boolean csv, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ImportReport report = new ImportReport(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+
+        Set<String> seenIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        String[] header = null;
+        long rowNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && header == null) {
+                header = parseCsvLine(line.replace("\uFEFF", ""));
+                continue;
+            }
+
+            rowNumber++;
+            if (rowNumber > maxRows) {
+                report.fail(rowNumber, null, "한 번에 등록할 수 있는 사용자는 최대 " + maxRows + "명입니다.");
+                break;
+            }
+
+            UserRegisterRequestDto requestDto;
+            try {
+                requestDto = csv
+                        ? toRequestDto(header, parseCsvLine(line))
+                        : objectMapper.readValue(line, UserRegisterRequestDto.class);
+            } catch (IOException | IllegalArgumentException e) {
+                report.fail(rowNumber, null, "행 형식이 올바르지 않습니다.");
+                continue;
+            }
+
+            String violation = validate(requestDto);
+            if (violation != null) {
+                report.fail(rowNumber, requestDto.getId(), violation);
+                continue;
+            }
+            if (seenIds.contains(requestDto.getId())) {
+                report.fail(rowNumber, requestDto.getId(), "파일 안에 중복된 아이디입니다.");
+                continue;
+            }
+            if (seenEmails.contains(requestDto.getEmail())) {
+                report.fail(rowNumber, requestDto.getId(), "파일 안에 중복된 이메일입니다.");
+                continue;
+            }
+            seenIds.add(requestDto.getId());
+            seenEmails.add(requestDto.getEmail());
+
+            chunk.add(new ImportRow(rowNumber, requestDto));
+            if (chunk.size() >= chunkSize) {
+                saveChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        saveChunk(chunk, report);
+
+        report.finish(rowNumber);
+    }
+
+    private void saveChunk(List<ImportRow> chunk, ImportReport report) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingIds = new HashSet<>(userRepository.findExistingIds(
+                chunk.stream().map(row -> row.requestDto().getId()).toList()));
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(row -> row.requestDto().getEmail()).toList()));
+
+        List<ImportRow> accepted = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingIds.contains(row.requestDto().getId())) {
+                report.fail(row.rowNumber(), row.requestDto().getId(), "이미 존재하는 아이디입니다.");
+            } else if (existingEmails.contains(row.requestDto().getEmail())) {
+                report.fail(row.rowNumber(), row.requestDto().getId(), "이미 존재하는 이메일입니다.");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            report.flush();
+            return;
+        }
+
+        List<String> encodedPasswords;
+        try {
+            encodedPasswords = encodePasswords(accepted);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 작업이 몰려 사용자 {}건을 등록하지 못했습니다.", accepted.size());
+            for (ImportRow row : accepted) {
+                report.fail(row.rowNumber(), row.requestDto().getId(), "서버가 혼잡하여 저장하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            report.flush();
+            return;
+        }
+
+        LocalDateTime registrationDate = LocalDateTime.now().withNano(0);
+        List<UserImportDto> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(toImportDto(accepted.get(i).requestDto(), encodedPasswords.get(i), registrationDate));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> userJdbcRepository.insertAll(users));
+        } catch (DataAccessException e) {
+            log.warn("사용자 일괄 등록 중 {}건 저장에 실패했습니다.", users.size(), e);
+            for (ImportRow row : accepted) {
+                report.fail(row.rowNumber(), row.requestDto().getId(), "저장에 실패했습니다.");
+            }
+            report.flush();
+            return;
+        }
+
+        for (ImportRow row : accepted) {
+            report.created(row.rowNumber(), row.requestDto().getId());
+        }
+        report.flush();
+    }
+
+    //로그인과 같은 BCrypt 전용 executor에서 해싱하되, 풀 크기만큼만 동시에 올려서 로그인 요청이 대기 큐에 들어갈 자리를 남김
+    //큐가 가득 차면(로그인이 몰린 경우) RejectedExecutionException이 그대로 전달됨
+    private List<String> encodePasswords(List<ImportRow> rows) {
+        int window = passwordHashingExecutor.getPoolSize();
+        List<CompletableFuture<String>> futures = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (i >= window) {
+                futures.get(i - window).join();
+            }
+            String password = rows.get(i).requestDto().getPassword();
+            futures.add(passwordHashingExecutor.supplyAsync(() -> passwordEncoder.encode(password)));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private UserImportDto toImportDto(UserRegisterRequestDto requestDto, String encodedPassword, LocalDateTime registrationDate) {
+        return UserImportDto.builder()
+                .id(requestDto.getId())
+                .encodedPassword(encodedPassword)
+                .authorityName("MASTER".equals(requestDto.getAuthority()) ? "ROLE_MASTER" : "ROLE_ADMIN")
+                .name(requestDto.getName())
+                .email(requestDto.getEmail())
+                .department(requestDto.getDepartment())
+                .memo(requestDto.getMemo())
+                .registrationDate(registrationDate)
+                .build();
+    }
+
+    private String validate(UserRegisterRequestDto requestDto) {
+        Set<ConstraintViolation<UserRegisterRequestDto>> violations = validator.validate(requestDto);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private UserRegisterRequestDto toRequestDto(String[] header, String[] values) {
+        if (header.length != values.length) {
+            throw new IllegalArgumentException("column count mismatch");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            fields.put(header[i].trim(), values[i].isEmpty() ? null : values[i]);
+        }
+        return objectMapper.convertValue(fields, UserRegisterRequestDto.class);
+    }
+
+    //큰따옴표로 감싼 값과 그 안의 ""(따옴표) 및 쉼표를 지원하는 한 줄 CSV 파서
+    static String[] parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values.toArray(new String[0]);
+    }
+
+    private record ImportRow(long rowNumber, UserRegisterRequestDto requestDto) {
+    }
+
+    //행별 결과를 NDJSON 한 줄씩 기록하고 마지막에 요약 한 줄을 기록
+    private final class ImportReport {
+        private final Writer writer;
+        private long created;
+        private long failed;
+
+        private ImportReport(Writer writer) {
+            this.writer = writer;
+        }
+
+        private void created(long rowNumber, String id) throws IOException {
+            created++;
+            write(new UserImportResultDto(rowNumber, id, UserImportStatus.CREATED, null));
+        }
+
+        private void fail(long rowNumber, String id, String message) throws IOException {
+            failed++;
+            write(new UserImportResultDto(rowNumber, id, UserImportStatus.FAILED, message));
+        }
+
+        private void finish(long total) throws IOException {
+            write(new UserImportSummaryDto(Math.min(total, maxRows), created, failed));
+            flush();
+        }
+
+        private void write(Object line) throws IOException {
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+        }
+
+        private void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.daou.sabangnetserver.domain.user.service;
 
 import com.daou.sabangnetserver.domain.auth.dto.ApproveRequestDto;
 import com.daou.sabangnetserver.domain.auth.dto.LoginRequestDto;
+import com.daou.sabangnetserver.domain.user.dto.BulkUpdateResponseDto;
+import com.daou.sabangnetserver.domain.user.dto.BulkUpdateResultDto;
+import com.daou.sabangnetserver.domain.user.dto.BulkUpdateStatus;
+import com.daou.sabangnetserver.domain.user.dto.LastLoginDto;
 import com.daou.sabangnetserver.domain.user.dto.UserDeleteRequestDto;
 import com.daou.sabangnetserver.domain.user.dto.UserDto;
 import com.daou.sabangnetserver.domain.user.dto.UserRegisterRequestDto;
@@ -19,7 +23,9 @@ import com.daou.sabangnetserver.global.jwt.TokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +34,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,7 +45,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final LastLoginUpdateBuffer lastLoginUpdateBuffer;
+    private final UserBulkLimits userBulkLimits;
 
     //유저 및 권한 정보를 가져오는 메소드
     @Transactional(readOnly = true)
@@ -56,14 +62,15 @@ public class UserService {
     }
 
 
-    private UserDto convertToDto(User user){
+    //JMH 벤치마크(UserServiceBenchmark)에서 직접 호출할 수 있도록 package-private
+    UserDto convertToDto(User user){
 
         String authority = Objects.requireNonNull(user.getAuthorities().stream()
                 .findFirst()
                 .map(Authority::getAuthorityName)
                 .orElse(null)).substring(5);
 
-        return UserDto.builder()
+        return applyPendingLastLogin(UserDto.builder()
                 .userId(user.getUserId())
                 .authority(authority)
                 .id(user.getId())
@@ -75,16 +82,30 @@ public class UserService {
                 .lastLoginTime(user.getLastLoginTime())
                 .lastLoginIp(user.getLastLoginIp())
                 .isUsed(user.getIsUsed())
+                .build());
+    }
+
+    //아직 DB에 반영되지 않은 마지막 로그인 정보가 있으면 그 값을 우선 사용
+    private UserDto applyPendingLastLogin(UserDto userDto){
+        LastLoginDto pendingLastLogin = lastLoginUpdateBuffer.getPending(userDto.getUserId());
+        if (pendingLastLogin == null) {
+            return userDto;
+        }
+
+        return userDto.toBuilder()
+                .lastLoginTime(pendingLastLogin.getLastLoginTime())
+                .lastLoginIp(pendingLastLogin.getLastLoginIp())
                 .build();
     }
 
 
+    @Transactional(readOnly = true)
     public UserSearchResponseDto searchUsers(UserSearchRequestDto requestDto){
 
 
         Pageable pageable = PageRequest.of(requestDto.getPage() - 1, requestDto.getShowList());
 
-        Page<User> userPage = userRepository.searchUsers(
+        Page<UserDto> userPage = userRepository.searchUsers(
                 requestDto.getId(),
                 requestDto.getName(),
                 requestDto.getEmail(),
@@ -92,7 +113,7 @@ public class UserService {
                 pageable
         );
 
-        List<UserDto> userDtos = userPage.getContent().stream().map(this::convertToDto).toList();
+        List<UserDto> userDtos = userPage.getContent().stream().map(this::applyPendingLastLogin).toList();
 
         return UserSearchResponseDto.of(userPage.getNumber(), (int) userPage.getTotalElements(), userPage.getTotalPages(), userDtos);
     }
@@ -131,27 +152,47 @@ public class UserService {
         userRepository.save(user);
     }
 
+    //아이디를 chunk 단위 IN 절로 묶어 상태 조회 후 한 번에 승인, 없는 아이디와 이미 승인된 아이디는 건너뜀
     @Transactional
-    public void updateIsUsed(ApproveRequestDto requestDto) {
-        List<String> ids = requestDto.getIds();
-        ids.stream()
-                .map(userRepository::findByIdAndIsDeleteFalse)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .filter(user -> !user.getIsUsed())
-                .forEach(user -> {
-                    user.updateIsUsed();
-                    userRepository.save(user);
-                });
+    public BulkUpdateResponseDto updateIsUsed(ApproveRequestDto requestDto) {
+        List<String> ids = userBulkLimits.distinctIds(requestDto.getIds());
+        Map<String, Boolean> states = findStates(ids);
+
+        List<String> targets = ids.stream()
+                .filter(id -> Boolean.FALSE.equals(states.get(id)))
+                .toList();
+        userBulkLimits.partition(targets).forEach(userRepository::approveAllByIds);
+
+        return BulkUpdateResponseDto.of(ids.stream()
+                .map(id -> new BulkUpdateResultDto(id, !states.containsKey(id) ? BulkUpdateStatus.MISSING
+                        : Boolean.TRUE.equals(states.get(id)) ? BulkUpdateStatus.ALREADY
+                        : BulkUpdateStatus.APPLIED))
+                .toList());
     }
 
+    //하나라도 없는 아이디가 있으면 아무것도 삭제하지 않음
     @Transactional
-    public void deleteUser(UserDeleteRequestDto requestDto){
+    public BulkUpdateResponseDto deleteUser(UserDeleteRequestDto requestDto){
+        List<String> ids = userBulkLimits.distinctIds(requestDto.getIds());
+        Map<String, Boolean> states = findStates(ids);
+
+        if (states.size() != ids.size())
+            throw new RuntimeException("삭제할 아이디가 존재하지 않습니다.");
 
-        for(String id : requestDto.getIds()){
-            User user = userRepository.findByIdAndIsDeleteFalse(id).orElseThrow( ()-> new RuntimeException("삭제할 아이디가 존재하지 않습니다."));
-            user.deleteUser();
+        userBulkLimits.partition(ids).forEach(userRepository::softDeleteAllByIds);
+
+        return BulkUpdateResponseDto.of(ids.stream()
+                .map(id -> new BulkUpdateResultDto(id, BulkUpdateStatus.APPLIED))
+                .toList());
+    }
+
+    //삭제되지 않은 사용자의 아이디별 활성화 여부
+    private Map<String, Boolean> findStates(List<String> ids) {
+        Map<String, Boolean> states = new HashMap<>();
+        for (List<String> chunk : userBulkLimits.partition(ids)) {
+            userRepository.findStatesByIds(chunk).forEach(state -> states.put(state.getId(), state.getIsUsed()));
         }
+        return states;
     }
 
     @Transactional
@@ -167,24 +208,24 @@ public class UserService {
 
 
     @Transactional
-    public void updatePassword(UserUpdatePasswordDto requestDto, String jwt){
+    //BCrypt 작업이 있어 PasswordHashingExecutor에서 실행되므로 아이디는 요청 스레드에서 미리 꺼내서 전달받음
+    public void updatePassword(UserUpdatePasswordDto requestDto, String id){
 
-        String id = tokenProvider.getIdFromToken(jwt);
         User user = userRepository.findByIdAndIsDeleteFalse(id).orElseThrow(()-> new RuntimeException("아이디가 존재하지 않습니다."));
 
-        if(!bCryptPasswordEncoder.matches(requestDto.getCurrentPassword(), user.getPw()))
+        if(!passwordEncoder.matches(requestDto.getCurrentPassword(), user.getPw()))
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
 
         if(requestDto.getCurrentPassword().equals(requestDto.getNewPassword()))
             throw new RuntimeException("변경할 비밀번호가 동일합니다.");
 
 
-        user.updatePassword(bCryptPasswordEncoder.encode(requestDto.getNewPassword()));
+        user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
     }
 
     @Transactional
-    public void updateMe(UserUpdateMeRequestDto requestDto, String jwt){
-        String id = tokenProvider.getIdFromToken(jwt);
+    public void updateMe(UserUpdateMeRequestDto requestDto, HttpServletRequest request){
+        String id = tokenProvider.getIdFromRequest(request);
         User user = userRepository.findByIdAndIsDeleteFalse(id).orElseThrow(()-> new RuntimeException("아이디가 존재하지 않습니다."));
 
         if (!user.getEmail().equals(requestDto.getEmail()) && userRepository.existsByEmailAndIsDeleteFalse(requestDto.getEmail()))
@@ -192,17 +233,15 @@ public class UserService {
 
         user.updateUserInfo(requestDto);
     }
+
+    @Transactional(readOnly = true)
     public UserDto getUserById(String id) {
         User user = userRepository.findByIdAndIsDeleteFalse(id)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다. " + id));
         return convertToDto(user);
     }
 
-    public void checkPassword(HttpServletRequest request, LoginRequestDto loginRequestDto) {
-        String header = request.getHeader("Authorization");
-
-        String token = header.substring(7);
-        String id = tokenProvider.getIdFromToken(token);
+    public void checkPassword(String id, LoginRequestDto loginRequestDto) {
 
         User user = userRepository.findByIdAndIsDeleteFalse(id)
                 .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다. " + id));
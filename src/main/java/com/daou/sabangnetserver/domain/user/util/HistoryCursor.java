@@ -0,0 +1,37 @@
+package com.daou.sabangnetserver.domain.user.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 히스토리 커서 페이징 위치 (loginTime, historyId 내림차순 기준 마지막으로 내려준 행)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출
+ */
+public record HistoryCursor(LocalDateTime loginTime, Long historyId) {
+
+    //첫 페이지는 모든 행보다 뒤에 있는 위치에서 시작
+    public static final HistoryCursor FIRST = new HistoryCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = ",";
+
+    public String encode() {
+        String raw = loginTime + SEPARATOR + historyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new HistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.daou.sabangnetserver.domain.user.util;
 
+import com.daou.sabangnetserver.global.jwt.JwtPrincipal;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -24,7 +25,9 @@ public class SecurityUtil {
         }
 
         String username = null;
-        if (authentication.getPrincipal() instanceof UserDetails springSecurityUser) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            username = jwtPrincipal.id();
+        } else if (authentication.getPrincipal() instanceof UserDetails springSecurityUser) {
             username = springSecurityUser.getUsername();
         } else if (authentication.getPrincipal() instanceof String) {
             username = (String) authentication.getPrincipal();
@@ -0,0 +1,130 @@
+package com.daou.sabangnetserver.global.async;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 해싱/비교 작업 전용 executor
+ * 스레드 수와 대기 큐 크기를 제한해서 로그인 요청이 몰려도 Tomcat 요청 스레드를 모두 점유하지 않도록 함
+ * 큐가 가득 차면 RejectedExecutionException을 던지고, GlobalExceptionHandler에서 503으로 응답
+ * CPU를 쓰는 작업이므로 가상 스레드 모드(spring.threads.virtual.enabled=true)에서도 코어 수만큼의 플랫폼 스레드로 실행
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements Executor, DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    public PasswordHashingExecutor(
+            @Value("${password-hashing.pool-size:0}") int poolSize,
+            @Value("${password-hashing.queue-capacity:200}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                record(startedAt - enqueuedAt, totalQueueWaitNanos, maxQueueWaitNanos);
+                try {
+                    command.run();
+                } finally {
+                    record(System.nanoTime() - startedAt, totalExecutionNanos, maxExecutionNanos);
+                    completedCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw e;
+        }
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, this);
+    }
+
+    public CompletableFuture<Void> runAsync(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, this);
+    }
+
+    private static void record(long nanos, LongAdder total, AtomicLong max) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("비밀번호 해싱 작업 {}건을 완료하지 못하고 종료합니다.", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getTotalQueueWaitNanos() {
+        return totalQueueWaitNanos.sum();
+    }
+
+    public long getMaxQueueWaitNanos() {
+        return maxQueueWaitNanos.get();
+    }
+
+    public long getTotalExecutionNanos() {
+        return totalExecutionNanos.sum();
+    }
+
+    public long getMaxExecutionNanos() {
+        return maxExecutionNanos.get();
+    }
+}
@@ -0,0 +1,102 @@
+package com.daou.sabangnetserver.global.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기를 넘지 않는 간단한 조회 캐시
+ * 같은 값이 반복되는 입력(User-Agent 등)에 사용; 가득 차면 만료된 항목을 먼저 지우고 최대 크기의 90%까지 임의의 항목을 비움
+ * loader는 락 밖에서 실행되므로 동시에 같은 키를 처음 조회하면 loader가 여러 번 실행될 수 있음
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, V> cache = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final int maxSize;
+    private final Predicate<V> expired;
+
+    public BoundedCache(int maxSize) {
+        this(maxSize, value -> false);
+    }
+
+    //expired가 true인 항목은 조회 시 없는 것으로 처리하고, 가득 찬 경우 다른 항목보다 먼저 비움
+    public BoundedCache(int maxSize, Predicate<V> expired) {
+        this.maxSize = Math.max(1, maxSize);
+        this.expired = expired;
+    }
+
+    //loader가 null이나 이미 만료된 값을 리턴하면 저장하지 않음
+    public V get(K key, Function<K, V> loader) {
+        V cached = cache.get(key);
+        if (cached != null) {
+            if (!expired.test(cached)) {
+                hitCount.increment();
+                return cached;
+            }
+            cache.remove(key, cached);
+        }
+        missCount.increment();
+
+        V loaded = loader.apply(key);
+        if (loaded != null && !expired.test(loaded)) {
+            if (cache.size() >= maxSize) {
+                evict();
+            }
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cache.values().removeIf(value -> {
+                boolean removed = expired.test(value);
+                if (removed) {
+                    evictionCount.increment();
+                }
+                return removed;
+            });
+
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<K> iterator = cache.keySet().iterator();
+            while (cache.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
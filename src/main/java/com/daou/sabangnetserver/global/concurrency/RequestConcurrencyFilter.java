@@ -0,0 +1,93 @@
+package com.daou.sabangnetserver.global.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 동시에 처리하는 요청 수 제한
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 풀(server.tomcat.threads.max)이 동시 처리 수를 제한하지만,
+ * 가상 스레드는 요청마다 새로 만들어지므로 제한 없이 JDBC 커넥션 풀에 몰려 connection-timeout까지 기다리다 실패함
+ * 허용 수를 넘으면 acquire-timeout-ms만큼 기다린 뒤 503으로 응답 (플랫폼 모드에서는 통과만 함)
+ */
+@Slf4j
+@Component
+public class RequestConcurrencyFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public RequestConcurrencyFilter(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${request.concurrency.max-concurrent:200}") int maxConcurrent,
+            @Value("${request.concurrency.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.permits = virtualThreads ? new Semaphore(this.maxConcurrent) : null;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        if (virtualThreads) {
+            log.info("가상 스레드 모드: 동시 처리 요청 수를 {}개로 제한합니다.", this.maxConcurrent);
+        }
+    }
+
+    //지표 수집/헬스 체크는 요청이 몰린 상황에서도 응답해야 하므로 제외
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return permits == null || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCount.increment();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        //비동기 응답(로그인)은 첫 dispatch가 끝나면 반환; 이후 BCrypt 작업은 PasswordHashingExecutor가 따로 제한
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public boolean isEnabled() {
+        return permits != null;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActiveCount() {
+        return permits == null ? 0 : maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaitingCount() {
+        return permits == null ? 0 : permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,90 @@
+package com.daou.sabangnetserver.global.config;
+
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 서버 성능에 맞춰 보정한 cost를 사용하는 BCryptPasswordEncoder
+ * 저장된 해시의 cost가 현재 cost보다 낮을 때만 upgradeEncoding이 true를 리턴해서 로그인 성공 시 다시 해싱되도록 함
+ * (부하 등으로 보정된 cost가 낮아진 경우 기존의 더 강한 해시를 약하게 바꾸지 않음)
+ */
+@Slf4j
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+
+    private final int strength;
+    //비밀번호 비교 시간 기록; bean 생성 시 한 번만 설정
+    @Setter
+    private Timer matchesTimer;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    //minStrength의 해싱 시간을 측정하고, cost가 1 올라갈 때마다 시간이 2배가 되는 것을 이용해 목표 시간 이하의 최대 cost 선택
+    public static CalibratedBCryptPasswordEncoder calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int min = Math.max(MIN_STRENGTH, minStrength);
+        int max = Math.min(MAX_STRENGTH, Math.max(min, maxStrength));
+
+        long baseNanos = measure(min);
+        long targetNanos = targetMillis * 1_000_000L;
+
+        int strength = min;
+        long expectedNanos = baseNanos;
+        while (strength < max && expectedNanos * 2 <= targetNanos) {
+            strength++;
+            expectedNanos *= 2;
+        }
+
+        log.info("BCrypt cost를 {}(으)로 설정했습니다. cost {} 측정값: {}ms, 예상 해싱 시간: {}ms, 목표: {}ms",
+                strength, min, baseNanos / 1_000_000, expectedNanos / 1_000_000, targetMillis);
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    //JIT 영향을 줄이기 위해 한 번 먼저 실행한 후 3번 중 가장 짧은 시간 사용
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration-warm-up");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (matchesTimer == null) {
+            return super.matches(rawPassword, encodedPassword);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return super.matches(rawPassword, encodedPassword);
+        } finally {
+            matchesTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
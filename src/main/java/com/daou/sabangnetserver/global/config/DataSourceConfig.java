@@ -0,0 +1,61 @@
+package com.daou.sabangnetserver.global.config;
+
+import com.daou.sabangnetserver.global.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary(쓰기) 풀과 읽기 전용 풀을 만들고, 트랜잭션의 readOnly 여부에 따라 나눠 쓰는 DataSource를 기본 DataSource로 등록
+ * datasource.read.url을 지정하지 않으면 읽기 전용 풀도 primary DB에 연결 (로그인 쓰기와 조회가 커넥션을 나눠 쓰지 않도록 풀만 분리)
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.read.hikari")
+    public HikariDataSource readDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.read.url:}") String url,
+            @Value("${datasource.read.username:}") String username,
+            @Value("${datasource.read.password:}") String password) {
+        boolean replica = !url.isBlank();
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replica ? url : properties.determineUrl())
+                .username(replica ? username : properties.determineUsername())
+                .password(replica ? password : properties.determinePassword())
+                .build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource,
+            @Value("${datasource.read.fallback-to-primary:true}") boolean fallbackToPrimary,
+            @Value("${datasource.read.retry-interval-ms:30000}") long retryIntervalMillis) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, readDataSource, fallbackToPrimary, retryIntervalMillis);
+    }
+
+    //트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 가져와야 readOnly 여부로 풀을 고를 수 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
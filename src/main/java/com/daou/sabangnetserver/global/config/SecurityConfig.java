@@ -3,15 +3,18 @@ package com.daou.sabangnetserver.global.config;
 import com.daou.sabangnetserver.global.jwt.JwtAccessDeniedHandler;
 import com.daou.sabangnetserver.global.jwt.JwtAuthenticationEntryPoint;
 import com.daou.sabangnetserver.global.jwt.JwtFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -42,9 +45,21 @@ public class SecurityConfig {
     //PasswordEncoder로 BCryptEncoder 사용
     //Password 평문으로 저장 X, 비밀번호에 salt값을 추가해 해시를 생성함; 같은 비밀번호를 여러 계정에 사용해도 해시 값이 동일하지 X
     //JWT 생성 및 검증 단계에서 사용 X, 로그인 단계에 필요
+    //cost를 직접 지정하지 않으면 서버 기동 시 목표 해싱 시간에 맞춰 cost 보정; 애플리케이션 전체에서 이 encoder 하나만 사용
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password-hashing.bcrypt.strength:0}") int strength,
+            @Value("${password-hashing.bcrypt.target-millis:250}") long targetMillis,
+            @Value("${password-hashing.bcrypt.min-strength:10}") int minStrength,
+            @Value("${password-hashing.bcrypt.max-strength:14}") int maxStrength,
+            MeterRegistry meterRegistry) {
+        CalibratedBCryptPasswordEncoder passwordEncoder = strength > 0
+                ? new CalibratedBCryptPasswordEncoder(strength)
+                : CalibratedBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
+        passwordEncoder.setMatchesTimer(Timer.builder("sabangnet.password.matches")
+                .tag("strength", String.valueOf(passwordEncoder.getStrength()))
+                .register(meterRegistry));
+        return passwordEncoder;
     }
 
     @Bean
@@ -61,12 +76,18 @@ public class SecurityConfig {
                 .headers(headerConfig ->
                         headerConfig.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
                 .authorizeHttpRequests(authorize -> {
+                    // 비동기 응답(CompletableFuture)의 ASYNC dispatch는 최초 요청에서 이미 권한 검사를 마침
+                    authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     PUBLIC_URLS.forEach(url -> authorize.requestMatchers(url).authenticated());
                     authorize.requestMatchers("/login").permitAll();
+                    //actuator는 management.server.port에서만 열리므로 서비스 포트로는 접근할 수 없음; 관리 포트에서 Prometheus가 토큰 없이 수집
+                    authorize.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
                     authorize.requestMatchers("/register").hasRole("MASTER");
+                    authorize.requestMatchers("/register/import").hasRole("MASTER");
                     authorize.requestMatchers("/update/approve").hasRole("MASTER");
                     authorize.requestMatchers("/update/others").hasRole("MASTER");
                     authorize.requestMatchers("/delete").hasRole("MASTER");
+                    authorize.requestMatchers("/history/export").hasRole("MASTER");
 
                     authorize.anyRequest().authenticated(); // 위의 API 제외 토큰 인증없이 접근 X
                 })
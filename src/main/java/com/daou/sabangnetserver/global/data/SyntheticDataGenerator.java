@@ -0,0 +1,340 @@
+package com.daou.sabangnetserver.global.data;
+
+import com.daou.sabangnetserver.domain.auth.utils.UserAgentClassifier;
+import com.daou.sabangnetserver.domain.statistics.repository.LoginStatisticsJdbcRepository;
+import com.daou.sabangnetserver.domain.user.service.LoginDeviceService;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 성능 테스트용 대량 데이터 생성기 (synthetic-data.enabled=true일 때만 등록)
+ * 사용자/권한/로그인 이력을 chunk 단위 JDBC batch로 여러 스레드에서 동시에 저장
+ * chunk마다 seed를 고정한 난수를 사용하므로 같은 설정이면 항상 같은 데이터가 만들어짐
+ * 이미 생성된 데이터(ID가 syn으로 시작하는 사용자)가 있으면 건너뜀
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "synthetic-data.enabled", havingValue = "true")
+public class SyntheticDataGenerator {
+
+    static final String USER_ID_PREFIX = "syn";
+    //모든 생성 사용자의 비밀번호; BCrypt 해시는 한 번만 계산해서 재사용
+    static final String PASSWORD = "password123!";
+
+    private static final String INSERT_AUTHORITY =
+            "INSERT INTO AUTHORITY (AUTHORITY_NAME) SELECT ? WHERE NOT EXISTS (SELECT 1 FROM AUTHORITY WHERE AUTHORITY_NAME = ?)";
+    private static final String INSERT_USER =
+            "INSERT INTO USERS (ID, PASSWORD, NAME, EMAIL, DEPARTMENT, MEMO, REGISTRATION_DATE, IS_USED, IS_DELETE, LAST_LOGIN_TIME, LAST_LOGIN_IP) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+    private static final String INSERT_USER_AUTHORITY = "INSERT INTO USER_AUTHORITY (AUTHORITY_NAME, ID) VALUES (?, ?)";
+    private static final String INSERT_HISTORY =
+            "INSERT INTO HISTORY (LOGIN_TIME, DEVICE_ID, LOGIN_IP, USER_ID) VALUES (?, ?, ?, ?)";
+
+    //통계청 성씨 분포 상위 성씨 (비율은 대략적인 값)
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+            "한", "오", "서", "신", "권", "황", "안", "송", "류", "전", "홍", "고", "문", "양", "손"};
+    private static final int[] SURNAME_WEIGHTS = {
+            215, 147, 84, 47, 44, 24, 21, 20, 20, 20,
+            15, 15, 15, 14, 14, 14, 13, 12, 12, 11, 10, 9, 9, 9, 9};
+    private static final String[] GIVEN_NAME_SYLLABLES = {
+            "민", "서", "지", "현", "수", "영", "준", "우", "예", "하", "도", "윤", "은", "진", "성",
+            "재", "연", "주", "혜", "경", "태", "동", "승", "유", "아", "원", "상", "정", "호", "빈"};
+    private static final String[] DEPARTMENTS = {
+            "플랫폼개발팀", "개발팀", "기획팀", "인사팀", "총무팀", "마케팅팀", "영업팀",
+            "디자인팀", "품질관리팀", "연구소", "고객지원팀", "재무팀", "법무팀", "물류팀"};
+    private static final String[] MEMOS = {"일반 사용자", "일반 사용자", "일반 사용자", "관리자", "협력사", null};
+
+    //실제 접속 비율을 흉내 낸 User-Agent 목록 (PC Chrome/Whale/Edge가 대부분, 나머지는 모바일)
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/126.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/126.0.0.0 Whale/3.27.254.15 Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36 Edg/127.0.0.0",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:128.0) Gecko/20100101 Firefox/128.0",
+            "Mozilla/5.0 (Windows NT 10.0; WOW64; Trident/7.0; rv:11.0) like Gecko",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.5 Safari/605.1.15",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.5 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) CriOS/127.0.6533.77 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S921N) AppleWebKit/537.36 (KHTML, like Gecko) SamsungBrowser/25.0 Chrome/121.0.0.0 Mobile Safari/537.36",
+            "Mozilla/5.0 (Linux; Android 14; SM-S921N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Mobile Safari/537.36",
+            "Mozilla/5.0 (Linux; Android 13; SM-G991N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Whale/3.26.244.21 Mobile Safari/537.36",
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36"};
+    private static final int[] USER_AGENT_WEIGHTS = {300, 150, 120, 90, 30, 10, 40, 30, 60, 15, 60, 50, 30, 15};
+
+    //시간대별 로그인 비중 (업무 시간에 몰림)
+    private static final int[] HOUR_WEIGHTS = {
+            1, 1, 1, 1, 1, 2, 4, 12, 30, 40, 30, 20, 12, 30, 30, 25, 20, 15, 8, 5, 4, 3, 2, 1};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserAgentClassifier userAgentClassifier;
+    private final LoginDeviceService loginDeviceService;
+    private final LoginStatisticsJdbcRepository loginStatisticsJdbcRepository;
+
+    private final int userCount;
+    private final long historyCount;
+    private final int batchSize;
+    private final int threads;
+    private final int historyDays;
+    private final long seed;
+
+    public SyntheticDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder,
+            UserAgentClassifier userAgentClassifier,
+            LoginDeviceService loginDeviceService,
+            LoginStatisticsJdbcRepository loginStatisticsJdbcRepository,
+            @Value("${synthetic-data.users:1000000}") int userCount,
+            @Value("${synthetic-data.histories:50000000}") long historyCount,
+            @Value("${synthetic-data.batch-size:5000}") int batchSize,
+            @Value("${synthetic-data.threads:0}") int threads,
+            @Value("${synthetic-data.history-days:365}") int historyDays,
+            @Value("${synthetic-data.seed:20240701}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.userAgentClassifier = userAgentClassifier;
+        this.loginDeviceService = loginDeviceService;
+        this.loginStatisticsJdbcRepository = loginStatisticsJdbcRepository;
+        this.userCount = userCount;
+        this.historyCount = historyCount;
+        this.batchSize = Math.max(1, batchSize);
+        //커넥션 풀보다 많은 스레드는 커넥션을 기다리기만 하므로 기본값은 코어 수(최대 8)
+        this.threads = threads > 0 ? threads : Math.min(8, Runtime.getRuntime().availableProcessors());
+        this.historyDays = Math.max(1, historyDays);
+        this.seed = seed;
+    }
+
+    //로그인 통계 재계산(LoginStatisticsService.rebuildIfEmpty)보다 먼저 실행해서 생성한 이력이 통계에 포함되도록 함
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void generate() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USERS WHERE ID LIKE ?", Long.class, USER_ID_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            log.info("대량 데이터가 이미 있어 생성하지 않습니다. (사용자 {}명)", existing);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        log.info("대량 데이터 생성을 시작합니다. 사용자 {}명, 로그인 이력 {}건, 스레드 {}개, batch {}건",
+                userCount, historyCount, threads, batchSize);
+
+        insertAuthorities();
+        long[] deviceIds = registerDevices();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            generateUsers(executor);
+            long[] userIds = loadUserIds();
+            generateHistories(executor, userIds, deviceIds);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //통계가 비어 있으면 이어서 실행되는 LoginStatisticsService.rebuildIfEmpty가 생성한 이력을 DB 안에서 집계
+        if (!loginStatisticsJdbcRepository.isEmpty()) {
+            log.warn("로그인 통계가 이미 있어 생성한 이력을 통계에 반영하지 않았습니다.");
+        }
+
+        log.info("대량 데이터 생성을 마쳤습니다. {}초", (System.nanoTime() - startNanos) / 1_000_000_000);
+    }
+
+    private void insertAuthorities() {
+        for (String authority : List.of("ROLE_MASTER", "ROLE_ADMIN")) {
+            jdbcTemplate.update(INSERT_AUTHORITY, authority, authority);
+        }
+    }
+
+    //실제 로그인과 같은 경로로 LOGIN_DEVICE 사전에 등록
+    private long[] registerDevices() {
+        long[] deviceIds = new long[USER_AGENTS.length];
+        for (int i = 0; i < USER_AGENTS.length; i++) {
+            deviceIds[i] = loginDeviceService.getDeviceId(userAgentClassifier.classify(USER_AGENTS[i]));
+        }
+        return deviceIds;
+    }
+
+    private void generateUsers(ExecutorService executor) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        AtomicLong inserted = new AtomicLong();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < userCount; from += batchSize) {
+            int start = from;
+            int end = Math.min(userCount, from + batchSize);
+            futures.add(executor.submit(() -> {
+                insertUsers(start, end, encodedPassword, now);
+                logProgress("사용자", inserted.addAndGet(end - start), end - start, userCount);
+            }));
+        }
+        await(futures);
+    }
+
+    private void insertUsers(int start, int end, String encodedPassword, LocalDateTime now) {
+        SplittableRandom random = new SplittableRandom(seed ^ start);
+        int size = end - start;
+        List<Object[]> users = new ArrayList<>(size);
+        List<Object[]> authorities = new ArrayList<>(size);
+
+        for (int i = start; i < end; i++) {
+            String id = userId(i);
+            LocalDateTime registrationDate = now.minusMinutes(random.nextLong(60L * 24 * 365 * 3));
+            boolean loggedIn = random.nextInt(10) < 8;
+            users.add(new Object[]{
+                    id,
+                    encodedPassword,
+                    koreanName(random),
+                    id + "@daou.co.kr",
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    MEMOS[random.nextInt(MEMOS.length)],
+                    Timestamp.valueOf(registrationDate),
+                    random.nextInt(10) < 9,
+                    loggedIn ? Timestamp.valueOf(now.minusMinutes(random.nextLong(60L * 24 * historyDays))) : null,
+                    loggedIn ? ipAddress(random) : null});
+            authorities.add(new Object[]{random.nextInt(100) == 0 ? "ROLE_MASTER" : "ROLE_ADMIN", id});
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_USER, users);
+            jdbcTemplate.batchUpdate(INSERT_USER_AUTHORITY, authorities);
+        });
+    }
+
+    private long[] loadUserIds() {
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT USER_ID FROM USERS WHERE ID LIKE ?", Long.class, USER_ID_PREFIX + "%");
+        return userIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void generateHistories(ExecutorService executor, long[] userIds, long[] deviceIds) {
+        if (userIds.length == 0 || historyCount <= 0) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        AtomicLong inserted = new AtomicLong();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 0; from < historyCount; from += batchSize) {
+            long start = from;
+            int size = (int) Math.min(batchSize, historyCount - from);
+            futures.add(executor.submit(() -> {
+                insertHistories(start, size, userIds, deviceIds, today);
+                logProgress("로그인 이력", inserted.addAndGet(size), size, historyCount);
+            }));
+        }
+        await(futures);
+    }
+
+    private void insertHistories(long start, int size, long[] userIds, long[] deviceIds, LocalDate today) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + start);
+        Timestamp[] loginTimes = new Timestamp[size];
+        long[] historyDeviceIds = new long[size];
+        String[] loginIps = new String[size];
+        long[] historyUserIds = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            LocalDateTime loginTime = today.minusDays(random.nextInt(historyDays))
+                    .atTime(weighted(random, HOUR_WEIGHTS), random.nextInt(60), random.nextInt(60));
+            loginTimes[i] = Timestamp.valueOf(loginTime);
+            historyDeviceIds[i] = deviceIds[weighted(random, USER_AGENT_WEIGHTS)];
+            loginIps[i] = ipAddress(random);
+            //일부 사용자가 더 자주 로그인하도록 앞쪽 사용자에 치우치게 선택
+            double skewed = random.nextDouble();
+            historyUserIds[i] = userIds[(int) (userIds.length * skewed * skewed)];
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_HISTORY, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setTimestamp(1, loginTimes[i]);
+                ps.setLong(2, historyDeviceIds[i]);
+                ps.setString(3, loginIps[i]);
+                ps.setLong(4, historyUserIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        }));
+    }
+
+    //진행률이 10% 단위를 넘을 때마다 기록
+    private static void logProgress(String name, long done, long added, long total) {
+        long step = Math.max(1, total / 10);
+        if (done / step != (done - added) / step || done == total) {
+            log.info("{} {}/{}건 저장", name, done, total);
+        }
+    }
+
+    private static void await(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 데이터 생성에 실패했습니다.", e.getCause());
+        }
+    }
+
+    static String userId(int index) {
+        return String.format("%s%07d", USER_ID_PREFIX, index);
+    }
+
+    private static String koreanName(SplittableRandom random) {
+        return SURNAMES[weighted(random, SURNAME_WEIGHTS)]
+                + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]
+                + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)];
+    }
+
+    private static String ipAddress(SplittableRandom random) {
+        return random.nextInt(10) < 7
+                ? "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254))
+                : "211." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,95 @@
+package com.daou.sabangnetserver.global.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @Transactional(readOnly = true) 트랜잭션은 읽기 전용 풀(replica)로, 나머지는 primary로 보내는 DataSource
+ * 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 커넥션을 가져와야 함
+ * fallbackToPrimary가 true이면 replica 커넥션을 얻지 못한 경우 primary를 사용하고, retryIntervalMillis 동안 replica를 건너뜀
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITE, READ
+    }
+
+    private final DataSource primary;
+    private final boolean fallbackToPrimary;
+    private final long retryIntervalNanos;
+
+    //replica를 다시 시도할 시각(System.nanoTime); 0이면 바로 시도
+    private final AtomicLong replicaRetryAt = new AtomicLong();
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder readCount = new LongAdder();
+    private final LongAdder fallbackCount = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, boolean fallbackToPrimary, long retryIntervalMillis) {
+        this.primary = primary;
+        this.fallbackToPrimary = fallbackToPrimary;
+        this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryIntervalMillis));
+        setTargetDataSources(Map.of(Route.WRITE, primary, Route.READ, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.READ : Route.WRITE;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.WRITE) {
+            writeCount.increment();
+            return primary.getConnection();
+        }
+        if (fallbackToPrimary) {
+            long retryAt = replicaRetryAt.get();
+            if (retryAt != 0 && System.nanoTime() - retryAt < 0) {
+                fallbackCount.increment();
+                return primary.getConnection();
+            }
+        }
+
+        try {
+            Connection connection = super.getConnection();
+            replicaRetryAt.set(0);
+            readCount.increment();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            if (!fallbackToPrimary) {
+                throw e;
+            }
+            //여러 요청이 동시에 실패해도 경고는 한 번만 기록
+            long retryAt = replicaRetryAt.get();
+            if (replicaRetryAt.compareAndSet(retryAt, System.nanoTime() + retryIntervalNanos)) {
+                log.warn("읽기 전용 DB에 연결할 수 없어 {}ms 동안 primary를 사용합니다. {}",
+                        TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos), e.getMessage());
+            }
+            fallbackCount.increment();
+            return primary.getConnection();
+        }
+    }
+
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    public long getReadCount() {
+        return readCount.sum();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.sum();
+    }
+}
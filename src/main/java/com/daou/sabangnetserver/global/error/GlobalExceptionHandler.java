@@ -1,6 +1,7 @@
 package com.daou.sabangnetserver.global.error;
 
 import com.daou.sabangnetserver.global.common.ErrorResponse;
+import java.util.concurrent.RejectedExecutionException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -56,6 +57,23 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleTooManyRequestsException(TooManyRequestsException exception) {
+        return ErrorResponse.builder()
+                .code(exception.getCode())
+                .message(exception.getMessage())
+                .build();
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleRejectedExecutionException(RejectedExecutionException exception) {
+        return ErrorResponse.builder()
+                .code(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                .build();
+    }
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
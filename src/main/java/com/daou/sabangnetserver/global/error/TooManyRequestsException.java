@@ -0,0 +1,13 @@
+package com.daou.sabangnetserver.global.error;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final int code;
+
+    public TooManyRequestsException(int code, String message) {
+        super(message);
+        this.code = code;
+    }
+}
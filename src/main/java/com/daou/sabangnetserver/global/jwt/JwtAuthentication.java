@@ -0,0 +1,52 @@
+/*JWT 인증 정보; 변경 불가능한 객체라 캐시된 토큰의 경우 요청 간에 같은 인스턴스를 공유*/
+package com.daou.sabangnetserver.global.jwt;
+
+import java.util.Collection;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+public final class JwtAuthentication implements Authentication {
+
+    private final JwtPrincipal principal;
+    private final String token;
+
+    public JwtAuthentication(JwtPrincipal principal, String token) {
+        this.principal = principal;
+        this.token = token;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.authorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return token;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public JwtPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        throw new IllegalArgumentException("JWT 인증 정보는 변경할 수 없습니다.");
+    }
+
+    @Override
+    public String getName() {
+        return principal.id();
+    }
+}
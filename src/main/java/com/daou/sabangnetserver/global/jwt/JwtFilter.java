@@ -25,6 +25,7 @@ public class JwtFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
     public static final String AUTHORIZATION_HEADER = "Authorization";
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     //토큰 인증정보를 SecurityContext에 저장
     @Override
@@ -32,10 +33,15 @@ public class JwtFilter extends OncePerRequestFilter {
         String jwt = resolveToken(request);
         String requestURI = request.getRequestURI();
 
-        //토큰 정보가 null이 아니고 유효한 토큰인 것이 검증 되는 경우
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+        //토큰 정보가 null이 아니고 유효한 토큰인 것이 검증 되는 경우; 이미 검증된 토큰은 캐시에서 재사용
+        VerifiedToken verifiedToken = StringUtils.hasText(jwt) ? verifiedTokenCache.getOrVerify(jwt, tokenProvider::verify) : null;
+        if (verifiedToken != null) {
+            //검증된 claims는 request에 저장해 이후 로직에서 재사용
+            request.setAttribute(TokenProvider.VERIFIED_CLAIMS_ATTRIBUTE, verifiedToken.claims());
             //인증 정보 가져와서 Security Context Holder에 저장
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+            Authentication authentication = tokenProvider.getAuthentication(verifiedToken);
+            //SecurityContextHolder는 기본 전략(MODE_THREADLOCAL) 사용; 가상 스레드 모드에서도 요청마다 스레드가 새로 만들어지므로 요청 간에 공유되지 않음
+            //MODE_INHERITABLETHREADLOCAL로 바꾸면 요청 처리 중 만든 스레드에 인증 정보가 복사되므로 사용하지 않음
             SecurityContextHolder.getContext().setAuthentication(authentication);
             logger.debug("Security Context에 '{}' 인증정보를 저장했습니다, uri : {}", authentication.getName(), requestURI);
         } else {
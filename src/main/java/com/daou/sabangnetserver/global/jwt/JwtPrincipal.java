@@ -0,0 +1,23 @@
+/*JWT로 인증된 사용자 정보; 요청마다 User 엔티티를 만들지 않고 아이디와 권한만 보관*/
+package com.daou.sabangnetserver.global.jwt;
+
+import java.util.Collection;
+import java.util.Set;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+public record JwtPrincipal(String id, Set<Role> roles) implements AuthenticatedPrincipal {
+
+    public Collection<GrantedAuthority> authorities() {
+        return Role.toGrantedAuthorities(roles);
+    }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    @Override
+    public String getName() {
+        return id;
+    }
+}
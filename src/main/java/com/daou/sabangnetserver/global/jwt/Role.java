@@ -0,0 +1,63 @@
+/*토큰의 권한 정보; GrantedAuthority는 역할별로 하나만 만들어 모든 요청에서 공유*/
+package com.daou.sabangnetserver.global.jwt;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public enum Role {
+    MASTER,
+    ADMIN;
+
+    private final String authorityName = "ROLE_" + name();
+    private final GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(authorityName);
+    private final List<GrantedAuthority> grantedAuthorities = List.of(grantedAuthority);
+    private final Set<Role> singleton = Set.of(this);
+
+    public String getAuthorityName() {
+        return authorityName;
+    }
+
+    public GrantedAuthority getGrantedAuthority() {
+        return grantedAuthority;
+    }
+
+    //"ROLE_MASTER" 형태의 권한 이름을 Role로 변환; 알 수 없는 권한이면 null 리턴
+    public static Role fromAuthorityName(String authorityName) {
+        return switch (authorityName) {
+            case "ROLE_MASTER" -> MASTER;
+            case "ROLE_ADMIN" -> ADMIN;
+            default -> null;
+        };
+    }
+
+    //토큰의 auth claim(","로 구분된 권한 이름) 파싱; 권한이 하나인 경우 공유 Set을 그대로 리턴
+    public static Set<Role> parseClaim(String claim) {
+        if (claim == null || claim.isEmpty()) {
+            return Set.of();
+        }
+        if (claim.indexOf(',') < 0) {
+            Role role = fromAuthorityName(claim);
+            return role == null ? Set.of() : role.singleton;
+        }
+
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (String authorityName : claim.split(",")) {
+            Role role = fromAuthorityName(authorityName.trim());
+            if (role != null) {
+                roles.add(role);
+            }
+        }
+        return Set.copyOf(roles);
+    }
+
+    static Collection<GrantedAuthority> toGrantedAuthorities(Set<Role> roles) {
+        if (roles.size() == 1) {
+            return roles.iterator().next().grantedAuthorities;
+        }
+        return roles.stream().map(Role::getGrantedAuthority).toList();
+    }
+}
@@ -1,28 +1,28 @@
 /*토큰 발급 및 검증 수행 */
 package com.daou.sabangnetserver.global.jwt;
 
-import com.daou.sabangnetserver.domain.user.entity.Authority;
-import com.daou.sabangnetserver.domain.user.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
 import java.security.Key;
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -34,17 +34,26 @@ import org.springframework.stereotype.Component;
 public class TokenProvider implements InitializingBean {
 
     private Key key;
+    private JwtParser jwtParser; //thread-safe하므로 한 번 생성해서 재사용
 
     private static final String AUTHORITIE_KEY = "auth";
+    //JwtFilter에서 검증한 claims를 request에 저장할 때 사용하는 attribute 이름
+    public static final String VERIFIED_CLAIMS_ATTRIBUTE = TokenProvider.class.getName() + ".VERIFIED_CLAIMS";
     private final String secretKey;
     private final long tokenExpirationInMilliSeconds;
+    //서명 검증 시간; 캐시에 없는 토큰만 기록됨
+    private final Timer validVerifyTimer;
+    private final Timer invalidVerifyTimer;
 
     //yml의 key값과 만료시간 가져오기; 시간 밀리초로 변환
     public TokenProvider(
             @Value("${jwt.secret}") String secretKey,
-            @Value("${jwt.token-expiration-in-seconds}") long tokenExpirationInSeconds){
+            @Value("${jwt.token-expiration-in-seconds}") long tokenExpirationInSeconds,
+            MeterRegistry meterRegistry){
                 this.secretKey = secretKey;
                 this.tokenExpirationInMilliSeconds = tokenExpirationInSeconds * 3000;
+                this.validVerifyTimer = Timer.builder("sabangnet.jwt.verify").tag("result", "valid").register(meterRegistry);
+                this.invalidVerifyTimer = Timer.builder("sabangnet.jwt.verify").tag("result", "invalid").register(meterRegistry);
     }
 
 
@@ -53,6 +62,9 @@ public class TokenProvider implements InitializingBean {
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith((SecretKey) key)
+                .build();
     }
 
     /*유저 인증 정보를 가지고 와 AccessToken을 생성하는 메소드*/
@@ -77,54 +89,29 @@ public class TokenProvider implements InitializingBean {
                 .compact();
     }
 
-    //JWT 토큰으로 claim 생성 및 유저 객체 생성해 최종적으로 authentication 객체 리턴
-    public Authentication getAuthentication(String accessToken) {
-        Claims claims = Jwts
-                .parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(accessToken)
-                .getPayload();
-
-
-        //claim의 권한 정보 가져오기
-        Collection<?extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIE_KEY).toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-
-        Set<Authority> authoritiesSet = authorities.stream()
-                .map(authority -> new Authority(authority.getAuthority())) // Authority 생성자가 필요함
-                .collect(Collectors.toSet());
-
-        //User로 Authentication 리턴
-        User principal = User.builder()
-                .id(claims.getSubject())
-                .pw("")
-                .name("")
-                .email("")
-                .department(null)
-                .memo(null)
-                .isUsed(null)
-                .lastLoginIp("")
-                .lastLoginTime(LocalDateTime.now().withNano(0))
-                .registrationDate(LocalDateTime.now().withNano(0))
-                .authorities(authoritiesSet)
-                .isDelete(false)
-                .build();
+    //검증이 끝난 토큰의 authentication 객체 리턴; 변경 불가능한 객체라 새로 만들지 않고 그대로 사용
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        return verifiedToken.authentication();
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, accessToken, authorities);
+    //토큰 전체 검증 후 아이디와 권한만 담은 principal 생성; 유효하지 않으면 null 리턴
+    public VerifiedToken verify(String token) {
+        long startNanos = System.nanoTime();
+        Claims claims = validateAndGetClaims(token);
+        if (claims == null || claims.getExpiration() == null) {
+            invalidVerifyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        validVerifyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
 
+        JwtPrincipal principal = new JwtPrincipal(claims.getSubject(), Role.parseClaim(claims.get(AUTHORITIE_KEY, String.class)));
+        return new VerifiedToken(claims, new JwtAuthentication(principal, token), claims.getExpiration().getTime());
     }
 
-    //토큰 정보(유효성) 검증
-    public boolean validateToken(String token) {
+    //토큰 정보(유효성) 검증; 서명 검증은 여기서 한 번만 수행하고 유효하지 않으면 null 리턴
+    public Claims validateAndGetClaims(String token) {
         try {
-            Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 토큰입니다", e);
         } catch (ExpiredJwtException e) {
@@ -134,16 +121,29 @@ public class TokenProvider implements InitializingBean {
         } catch (IllegalArgumentException e) {
             log.info("빈 토큰입니다", e);
         }
-        return false;
+        return null;
+    }
+
+    public boolean validateToken(String token) {
+        return validateAndGetClaims(token) != null;
     }
 
     // 토큰에서 Authority와 userId 추출
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    // JwtFilter가 request에 저장해 둔 claims 재사용; 토큰을 다시 파싱하지 않음
+    public Claims getClaimsFromRequest(HttpServletRequest request) {
+        Object claims = request.getAttribute(VERIFIED_CLAIMS_ATTRIBUTE);
+        if (claims == null) {
+            throw new RuntimeException("인증 정보가 존재하지 않습니다.");
+        }
+        return (Claims) claims;
+    }
+
+    public String getIdFromRequest(HttpServletRequest request) {
+        return getClaimsFromRequest(request).getSubject();
     }
 
     public String getIdFromToken(String token) {
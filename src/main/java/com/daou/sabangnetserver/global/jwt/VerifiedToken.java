@@ -0,0 +1,15 @@
+/*서명 검증이 끝난 토큰 정보; VerifiedTokenCache에 저장되어 요청 간에 재사용*/
+package com.daou.sabangnetserver.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+public record VerifiedToken(Claims claims, JwtAuthentication authentication, long expiresAtMillis) {
+
+    public JwtPrincipal principal() {
+        return authentication.getPrincipal();
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,68 @@
+/*검증된 토큰을 요청 간에 재사용하기 위한 캐시
+* key는 토큰 원문이 아닌 SHA-256 digest, 토큰의 exp 시점에 만료되고 최대 크기를 넘으면 BoundedCache 규칙대로 일부를 비움*/
+package com.daou.sabangnetserver.global.jwt;
+
+import com.daou.sabangnetserver.global.cache.BoundedCache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+
+    private static final MessageDigest SHA_256_PROTOTYPE;
+
+    static {
+        try {
+            SHA_256_PROTOTYPE = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private final BoundedCache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.cache = new BoundedCache<>(maxSize, verified -> verified.isExpired(System.currentTimeMillis()));
+    }
+
+    //캐시에 있으면 그대로 사용하고, 없으면 verifier로 전체 검증 후 저장; 유효하지 않은 토큰은 null 리턴
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    private static String digest(String token) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = (MessageDigest) SHA_256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
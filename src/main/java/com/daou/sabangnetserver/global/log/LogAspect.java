@@ -1,29 +1,66 @@
 package com.daou.sabangnetserver.global.log;
 
 import com.daou.sabangnetserver.domain.auth.utils.LookUpHttpHeader;
-import com.daou.sabangnetserver.domain.user.entity.User;
+import com.daou.sabangnetserver.global.jwt.JwtPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * 컨트롤러 요청 로그
+ * access 모드(기본값): 요청마다 ACCESS_LOG 로거에 한 줄만 기록 (logback에서 비동기 appender로 기록)
+ *   - 엔드포인트별 sample-rates 비율만 기록하고, 오류와 slow-threshold-ms 이상 걸린 요청은 항상 기록
+ *   - 응답 본문은 log-result가 true일 때만 기록
+ * verbose 모드: 기존처럼 요청 시작/종료를 여러 줄로 기록
+ */
 @Component
 @Aspect
 @Slf4j
-@RequiredArgsConstructor
 public class LogAspect {
 
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final LookUpHttpHeader lookUpHttpHeader;
+    private final boolean verbose;
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+    private final long slowThresholdNanos;
+    private final boolean logResult;
+
+    public LogAspect(
+            LookUpHttpHeader lookUpHttpHeader,
+            @Value("${access-log.mode:access}") String mode,
+            @Value("${access-log.sample-rate:1.0}") double defaultSampleRate,
+            @Value("#{${access-log.sample-rates:{:}}}") Map<String, Double> sampleRates,
+            @Value("${access-log.slow-threshold-ms:1000}") long slowThresholdMillis,
+            @Value("${access-log.log-result:false}") boolean logResult) {
+        this.lookUpHttpHeader = lookUpHttpHeader;
+        this.verbose = "verbose".equalsIgnoreCase(mode);
+        this.defaultSampleRate = defaultSampleRate;
+        this.sampleRates = Map.copyOf(sampleRates);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.logResult = logResult;
+    }
 
     @Pointcut("within(com.daou.sabangnetserver.domain.auth.controller..*)")
     public void authController() {
@@ -33,27 +70,104 @@ public class LogAspect {
     public void userController() {
     }
 
-    @Pointcut("authController() || userController()")
+    @Pointcut("within(com.daou.sabangnetserver.domain.statistics.controller..*)")
+    public void statisticsController() {
+    }
+
+    @Pointcut("authController() || userController() || statisticsController()")
     public void applicationController() {
     }
 
     @Around("applicationController()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (verbose) {
+            return logVerbose(joinPoint);
+        }
 
-        LocalDateTime loginTime = LocalDateTime.now().withNano(0);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        String formattedDateTime = loginTime.format(formatter);
-
+        long startNanos = System.nanoTime();
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        String loginIp = lookUpHttpHeader.getIpAddress(request);
-        String loginDevice = lookUpHttpHeader.getLoginDeviceInfo(request);
+        //비동기 응답이 끝난 시점에는 Tomcat이 요청 객체를 재사용했을 수 있으므로 필요한 값은 요청 스레드에서 미리 꺼내둠
+        RequestLine requestLine = new RequestLine(request.getMethod(), request.getRequestURI(), lookUpHttpHeader.getIpAddress(request));
+        String loginId = currentLoginId();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable throwable) {
+            logAccess(joinPoint, requestLine, loginId, startNanos, null, throwable);
+            throw throwable;
+        }
+
+        //비동기 응답은 실제로 끝난 시점에 기록
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((completed, throwable) -> logAccess(joinPoint, requestLine, loginId, startNanos, completed, throwable));
+        } else {
+            logAccess(joinPoint, requestLine, loginId, startNanos, result, null);
+        }
+        return result;
+    }
+
+    private void logAccess(ProceedingJoinPoint joinPoint, RequestLine request, String loginId,
+                           long startNanos, Object result, Throwable throwable) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        String endpoint = endpointName(joinPoint);
 
-        String loginId = "N/A";
+        if (throwable == null && !slow && !sampled(endpoint)) {
+            return;
+        }
+
+        String ip = request.ip();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        if (throwable != null) {
+            ACCESS_LOG.warn("{} {} {} error={} elapsedMs={} id={} ip={}", endpoint, request.method(), request.uri(),
+                    throwable.getClass().getSimpleName(), elapsedMillis, loginId, ip);
+        } else if (slow) {
+            ACCESS_LOG.warn("{} {} {} status={} elapsedMs={} id={} ip={} slow=true", endpoint, request.method(), request.uri(),
+                    status(result), elapsedMillis, loginId, ip);
+        } else {
+            ACCESS_LOG.info("{} {} {} status={} elapsedMs={} id={} ip={}", endpoint, request.method(), request.uri(),
+                    status(result), elapsedMillis, loginId, ip);
+        }
+        if (logResult && result != null) {
+            ACCESS_LOG.debug("{} RESULT: {}", endpoint, result);
+        }
+    }
+
+    private boolean sampled(String endpoint) {
+        double sampleRate = sampleRates.getOrDefault(endpoint, defaultSampleRate);
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    //예: LoginController.login
+    private static String endpointName(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+
+    private static int status(Object result) {
+        return result instanceof ResponseEntity<?> responseEntity ? responseEntity.getStatusCode().value() : 200;
+    }
+
+    private static String currentLoginId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()
-                && authentication.getPrincipal() instanceof User user) {
-            loginId = user.getId();
+                && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.id();
         }
+        return "N/A";
+    }
+
+    private Object logVerbose(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        String formattedDateTime = LocalDateTime.now().withNano(0).format(DATE_TIME_FORMATTER);
+
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        String loginIp = lookUpHttpHeader.getIpAddress(request);
+        String loginDevice = lookUpHttpHeader.getLoginDeviceInfo(request).label();
+        String loginId = currentLoginId();
 
         // Before
         log.info("=== Start Request {} ===", joinPoint.getSignature().toShortString());
@@ -82,4 +196,7 @@ public class LogAspect {
         return result;
     }
 
+    //로그에 필요한 요청 정보 (요청 스레드에서 꺼낸 값)
+    private record RequestLine(String method, String uri, String ip) {
+    }
 }
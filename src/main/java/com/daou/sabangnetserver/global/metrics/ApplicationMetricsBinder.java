@@ -0,0 +1,102 @@
+package com.daou.sabangnetserver.global.metrics;
+
+import com.daou.sabangnetserver.domain.auth.service.LoginThrottleService;
+import com.daou.sabangnetserver.domain.auth.utils.UserAgentClassifier;
+import com.daou.sabangnetserver.domain.statistics.service.LoginStatisticsService;
+import com.daou.sabangnetserver.domain.user.repository.HistorySegmentStore;
+import com.daou.sabangnetserver.domain.user.service.HistoryWriteBehindService;
+import com.daou.sabangnetserver.domain.user.service.LastLoginUpdateBuffer;
+import com.daou.sabangnetserver.global.async.PasswordHashingExecutor;
+import com.daou.sabangnetserver.global.concurrency.RequestConcurrencyFilter;
+import com.daou.sabangnetserver.global.datasource.ReadWriteRoutingDataSource;
+import com.daou.sabangnetserver.global.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 각 컴포넌트가 이미 LongAdder/AtomicLong으로 모으고 있는 값을 지표로 노출
+ * 수집(scrape) 시점에만 getter를 호출하므로 요청 처리 중 추가 비용 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationMetricsBinder implements MeterBinder {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LoginThrottleService loginThrottleService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final HistoryWriteBehindService historyWriteBehindService;
+    private final LastLoginUpdateBuffer lastLoginUpdateBuffer;
+    private final LoginStatisticsService loginStatisticsService;
+    private final HistorySegmentStore historySegmentStore;
+    private final UserAgentClassifier userAgentClassifier;
+    private final RequestConcurrencyFilter requestConcurrencyFilter;
+    private final ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "sabangnet.jwt.cache.hits", verifiedTokenCache, VerifiedTokenCache::getHitCount);
+        counter(registry, "sabangnet.jwt.cache.misses", verifiedTokenCache, VerifiedTokenCache::getMissCount);
+        counter(registry, "sabangnet.jwt.cache.evictions", verifiedTokenCache, VerifiedTokenCache::getEvictionCount);
+        gauge(registry, "sabangnet.jwt.cache.size", verifiedTokenCache, VerifiedTokenCache::size);
+
+        FunctionCounter.builder("sabangnet.login.throttle.rejected", loginThrottleService, LoginThrottleService::getRejectedByIdCount)
+                .tag("key", "id").register(registry);
+        FunctionCounter.builder("sabangnet.login.throttle.rejected", loginThrottleService, LoginThrottleService::getRejectedByIpCount)
+                .tag("key", "ip").register(registry);
+        FunctionCounter.builder("sabangnet.login.throttle.rejected", loginThrottleService, LoginThrottleService::getRejectedByOverflowCount)
+                .tag("key", "overflow").register(registry);
+        Gauge.builder("sabangnet.login.throttle.tracked.keys", loginThrottleService, LoginThrottleService::getTrackedIdCount)
+                .tag("key", "id").register(registry);
+        Gauge.builder("sabangnet.login.throttle.tracked.keys", loginThrottleService, LoginThrottleService::getTrackedIpCount)
+                .tag("key", "ip").register(registry);
+
+        gauge(registry, "sabangnet.password.hashing.pool.size", passwordHashingExecutor, PasswordHashingExecutor::getPoolSize);
+        gauge(registry, "sabangnet.password.hashing.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount);
+        gauge(registry, "sabangnet.password.hashing.queue.size", passwordHashingExecutor, PasswordHashingExecutor::getQueueSize);
+        counter(registry, "sabangnet.password.hashing.completed", passwordHashingExecutor, PasswordHashingExecutor::getCompletedCount);
+        counter(registry, "sabangnet.password.hashing.rejected", passwordHashingExecutor, PasswordHashingExecutor::getRejectedCount);
+        FunctionCounter.builder("sabangnet.password.hashing.queue.wait", passwordHashingExecutor,
+                        executor -> executor.getTotalQueueWaitNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                .baseUnit("seconds").register(registry);
+
+        gauge(registry, "sabangnet.request.concurrency.active", requestConcurrencyFilter, RequestConcurrencyFilter::getActiveCount);
+        gauge(registry, "sabangnet.request.concurrency.waiting", requestConcurrencyFilter, RequestConcurrencyFilter::getWaitingCount);
+        counter(registry, "sabangnet.request.concurrency.rejected", requestConcurrencyFilter, RequestConcurrencyFilter::getRejectedCount);
+
+        FunctionCounter.builder("sabangnet.datasource.connections", readWriteRoutingDataSource, ReadWriteRoutingDataSource::getWriteCount)
+                .tag("route", "write").register(registry);
+        FunctionCounter.builder("sabangnet.datasource.connections", readWriteRoutingDataSource, ReadWriteRoutingDataSource::getReadCount)
+                .tag("route", "read").register(registry);
+        FunctionCounter.builder("sabangnet.datasource.connections", readWriteRoutingDataSource, ReadWriteRoutingDataSource::getFallbackCount)
+                .tag("route", "fallback").register(registry);
+
+        gauge(registry, "sabangnet.history.write.queue.size", historyWriteBehindService, HistoryWriteBehindService::getQueueDepth);
+        counter(registry, "sabangnet.history.write.flushes", historyWriteBehindService, HistoryWriteBehindService::getFlushCount);
+        counter(registry, "sabangnet.history.write.written", historyWriteBehindService, HistoryWriteBehindService::getWrittenCount);
+        counter(registry, "sabangnet.history.write.spilled", historyWriteBehindService, HistoryWriteBehindService::getSpilledCount);
+        counter(registry, "sabangnet.history.write.failed", historyWriteBehindService, HistoryWriteBehindService::getFailedCount);
+
+        counter(registry, "sabangnet.user.agent.cache.hits", userAgentClassifier, UserAgentClassifier::getHitCount);
+        counter(registry, "sabangnet.user.agent.cache.misses", userAgentClassifier, UserAgentClassifier::getMissCount);
+        gauge(registry, "sabangnet.user.agent.cache.size", userAgentClassifier, UserAgentClassifier::getCacheSize);
+
+        gauge(registry, "sabangnet.last.login.pending", lastLoginUpdateBuffer, LastLoginUpdateBuffer::getPendingCount);
+        gauge(registry, "sabangnet.statistics.pending", loginStatisticsService, LoginStatisticsService::getPendingCount);
+        gauge(registry, "sabangnet.history.archive.segments", historySegmentStore, HistorySegmentStore::getSegmentCount);
+        gauge(registry, "sabangnet.history.archive.rows", historySegmentStore, HistorySegmentStore::getArchivedRowCount);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T target, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, target, count).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).register(registry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.daou.sabangnetserver.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러 메소드와 JDBC repository 메소드의 처리 시간/오류 수 기록
+ * Timer/Counter는 메소드별로 한 번만 만들어 캐시하고, 요청마다 registry 조회 없이 record만 수행
+ * Spring Data repository(JpaRepository)는 spring.data.repository.invocations로 자동 기록되므로 제외
+ */
+@Component
+@Aspect
+public class MetricsAspect {
+
+    private static final String CONTROLLER_METRIC = "sabangnet.controller.requests";
+    private static final String CONTROLLER_ERROR_METRIC = "sabangnet.controller.errors";
+    private static final String REPOSITORY_METRIC = "sabangnet.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodMeters> controllerMeters = new ConcurrentHashMap<>();
+    private final Map<Method, MethodMeters> repositoryMeters = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("within(com.daou.sabangnetserver.domain..repository..*)"
+            + " && @within(org.springframework.stereotype.Repository)"
+            + " && !target(org.springframework.data.repository.Repository)")
+    public void jdbcRepository() {
+    }
+
+    @Around("com.daou.sabangnetserver.global.log.LogAspect.applicationController()")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters meters = controllerMeters.computeIfAbsent(method(joinPoint),
+                method -> new MethodMeters(CONTROLLER_METRIC, CONTROLLER_ERROR_METRIC, "endpoint", endpointName(method)));
+        long startNanos = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable throwable) {
+            meters.record(startNanos, throwable);
+            throw throwable;
+        }
+
+        //비동기 응답(로그인)은 BCrypt 작업까지 끝난 시점에 기록
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((completed, throwable) -> meters.record(startNanos, throwable));
+        } else {
+            meters.record(startNanos, null);
+        }
+        return result;
+    }
+
+    @Around("jdbcRepository()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters meters = repositoryMeters.computeIfAbsent(method(joinPoint),
+                method -> new MethodMeters(REPOSITORY_METRIC, null, "repository", method.getDeclaringClass().getSimpleName(),
+                        "method", method.getName()));
+        long startNanos = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            meters.record(startNanos, null);
+            return result;
+        } catch (Throwable throwable) {
+            meters.record(startNanos, throwable);
+            throw throwable;
+        }
+    }
+
+    private static Method method(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+
+    //예: LoginController.login
+    private static String endpointName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    //메소드 하나의 성공/실패 Timer와 예외 종류별 오류 Counter
+    private final class MethodMeters {
+
+        private final String[] tags;
+        private final String errorMetric;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+        private MethodMeters(String timerMetric, String errorMetric, String... tags) {
+            this.tags = tags;
+            this.errorMetric = errorMetric;
+            this.successTimer = Timer.builder(timerMetric).tags(tags).tag("outcome", "SUCCESS").register(meterRegistry);
+            this.errorTimer = Timer.builder(timerMetric).tags(tags).tag("outcome", "ERROR").register(meterRegistry);
+        }
+
+        private void record(long startNanos, Throwable throwable) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (throwable == null) {
+                successTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            errorTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (errorMetric != null) {
+                if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                    throwable = throwable.getCause();
+                }
+                errorCounters.computeIfAbsent(throwable.getClass(),
+                        type -> Counter.builder(errorMetric).tags(tags).tag("exception", type.getSimpleName()).register(meterRegistry))
+                        .increment();
+            }
+        }
+    }
+}
@@ -34,67 +34,137 @@ INSERT INTO AUTHORITY (authority_name) VALUES
 ('ROLE_ADMIN');
 
 
-INSERT INTO HISTORY (LOGIN_TIME, USER_ID, LOGIN_DEVICE, LOGIN_IP) VALUES
-    ('2024-07-02 14:22:37', 1, 'Chrome/127.0.0.0', '123.456.879.123'),
-    ('2024-07-02 14:25:21', 2, 'Firefox/192.168.1.1', '234.567.890.234'),
-    ('2024-07-03 10:11:45', 3, 'Safari/10.0.0.1', '345.678.901.345'),
-    ('2024-07-03 13:45:12', 4, 'Edge/172.16.0.1', '456.789.012.456'),
-    ('2024-07-04 08:30:05', 5, 'Opera/172.31.255.255', '567.890.123.567'),
-    ('2024-07-04 09:15:30', 6, 'Chrome/192.168.0.100', '678.901.234.678'),
-    ('2024-07-05 15:20:17', 7, 'Firefox/10.1.1.1', '789.012.345.789'),
-    ('2024-07-05 16:55:42', 8, 'Edge/172.16.10.1', '890.123.456.890'),
-    ('2024-07-06 11:10:59', 9, 'Safari/192.168.1.100', '901.234.567.901'),
-    ('2024-07-06 14:35:25', 10, 'Opera/192.168.0.1', '012.345.678.012'),
-    ('2024-07-07 08:45:37', 5, 'Chrome/172.16.20.1', '123.456.789.123'),
-    ('2024-07-07 09:20:10', 4, 'Firefox/192.168.10.100', '234.567.890.234'),
-    ('2024-07-08 12:55:22', 2, 'Edge/10.10.10.10', '345.678.901.345'),
-    ('2024-07-08 13:30:44', 9, 'Safari/192.168.100.1', '456.789.012.456'),
-    ('2024-07-09 09:10:18', 10, 'Opera/172.16.30.1', '567.890.123.567'),
-    ('2024-07-09 10:25:55', 1, 'Chrome/192.168.20.100', '678.901.234.678'),
-    ('2024-07-10 14:40:33', 3, 'Firefox/192.168.200.1', '789.012.345.789'),
-    ('2024-07-10 15:15:11', 2, 'Edge/10.20.30.40', '890.123.456.890'),
-    ('2024-07-11 11:30:09', 6, 'Safari/192.168.2.1', '901.234.567.901'),
-    ('2024-07-11 12:05:55', 7, 'Opera/192.168.30.100', '012.345.678.012'),
-    ('2024-07-12 08:20:42', 4, 'Chrome/172.16.40.1', '123.456.789.123'),
-    ('2024-07-12 09:00:28', 5, 'Firefox/192.168.3.100', '234.567.890.234'),
-    ('2024-07-13 12:45:16', 3, 'Edge/192.168.40.1', '345.678.901.345'),
-    ('2024-07-13 13:20:58', 7, 'Safari/10.100.100.1', '456.789.012.456'),
-    ('2024-07-14 09:50:37', 8, 'Opera/192.168.4.100', '567.890.123.567'),
-    ('2024-07-14 10:30:15', 8, 'Chrome/10.30.30.30', '678.901.234.678'),
-    ('2024-07-14 14:15:22', 9, 'Firefox/192.168.50.1', '789.012.345.789'),
-    ('2024-07-14 15:00:10', 4, 'Edge/192.168.5.1', '890.123.456.890'),
-    ('2024-07-14 10:25:59', 1, 'Safari/192.168.60.1', '901.234.567.901'),
-    ('2024-07-14 11:05:45', 10, 'Opera/172.16.50.1', '012.345.678.012'),
-    ('2024-07-14 08:30:37', 2, 'Chrome/192.168.70.1', '123.456.879.123'),
-    ('2024-07-14 09:15:22', 9, 'Firefox/172.16.60.1', '234.567.890.234'),
-    ('2024-07-14 12:50:11', 4, 'Edge/192.168.80.1', '345.678.901.345'),
-    ('2024-07-14 13:30:45', 5, 'Safari/192.168.90.1', '456.789.012.456'),
-    ('2024-07-14 09:20:33', 5, 'Opera/10.40.40.40', '567.890.123.567'),
-    ('2024-07-14 10:05:11', 3, 'Chrome/192.168.10.10', '678.901.234.678'),
-    ('2024-07-14 14:30:18', 2, 'Firefox/192.168.20.20', '789.012.345.789'),
-    ('2024-07-14 15:15:09', 6, 'Edge/192.168.30.30', '890.123.456.890'),
-    ('2024-07-14 11:40:27', 8, 'Safari/192.168.40.40', '901.234.567.901'),
-    ('2024-07-14 12:25:55', 7, 'Opera/192.168.50.50', '012.345.678.012'),
-    ('2024-07-14 08:15:42', 7, 'Chrome/192.168.60.60', '123.456.789.123'),
-    ('2024-07-14 09:00:28', 4, 'Firefox/192.168.70.70', '234.567.890.234'),
-    ('2024-07-14 13:45:16', 5, 'Edge/192.168.80.80', '345.678.901.345'),
-    ('2024-07-14 14:30:58', 1, 'Safari/192.168.90.90', '456.789.012.456'),
-    ('2024-07-14 10:50:37', 1, 'Opera/192.168.100.100', '567.890.123.567'),
-    ('2024-07-14 11:30:15', 9, 'Chrome/192.168.110.110', '678.901.234.678'),
-    ('2024-07-14 14:25:22', 10, 'Firefox/192.168.120.120', '789.012.345.789'),
-    ('2024-07-14 15:10:10', 10, 'Edge/192.168.130.130', '890.123.456.890'),
-    ('2024-07-14 10:35:59', 4, 'Safari/192.168.140.140', '901.234.567.901'),
-    ('2024-07-14 11:20:45', 10, 'Opera/192.168.150.150', '012.345.678.012'),
-    ('2024-07-14 08:40:42', 3, 'Chrome/192.168.160.160', '123.456.789.123'),
-    ('2024-07-14 09:20:28', 6, 'Firefox/192.168.170.170', '234.567.890.234'),
-    ('2024-07-14 12:55:16', 7, 'Edge/192.168.180.180', '345.678.901.345'),
-    ('2024-07-14 13:30:58', 8, 'Safari/192.168.190.190', '456.789.012.456'),
-    ('2024-07-14 09:10:37', 8, 'Opera/192.168.200.200', '567.890.123.567'),
-    ('2024-07-14 10:00:15', 2, 'Chrome/192.168.210.210', '678.901.234.678'),
-    ('2024-07-14 14:15:22', 2, 'Firefox/192.168.220.220', '789.012.345.789'),
-    ('2024-07-14 15:00:10', 3, 'Edge/192.168.230.230', '890.123.456.890'),
-    ('2024-07-14 10:25:59', 3, 'Safari/192.168.240.240', '901.234.567.901'),
-    ('2024-07-14 11:05:45', 10, 'Opera/192.168.250.250', '012.345.678.012');
+INSERT INTO LOGIN_DEVICE (DEVICE_HASH, USER_AGENT, BROWSER, OS, MOBILE, LABEL)
+SELECT RAWTOHEX(HASH('SHA-256', V.USER_AGENT)), V.USER_AGENT, V.BROWSER, 'Other', FALSE, V.BROWSER || ' / Other'
+FROM (VALUES
+    ('Chrome/127.0.0.0', 'Chrome'),
+    ('Firefox/192.168.1.1', 'Firefox'),
+    ('Safari/10.0.0.1', 'Safari'),
+    ('Edge/172.16.0.1', 'Edge'),
+    ('Opera/172.31.255.255', 'Opera'),
+    ('Chrome/192.168.0.100', 'Chrome'),
+    ('Firefox/10.1.1.1', 'Firefox'),
+    ('Edge/172.16.10.1', 'Edge'),
+    ('Safari/192.168.1.100', 'Safari'),
+    ('Opera/192.168.0.1', 'Opera'),
+    ('Chrome/172.16.20.1', 'Chrome'),
+    ('Firefox/192.168.10.100', 'Firefox'),
+    ('Edge/10.10.10.10', 'Edge'),
+    ('Safari/192.168.100.1', 'Safari'),
+    ('Opera/172.16.30.1', 'Opera'),
+    ('Chrome/192.168.20.100', 'Chrome'),
+    ('Firefox/192.168.200.1', 'Firefox'),
+    ('Edge/10.20.30.40', 'Edge'),
+    ('Safari/192.168.2.1', 'Safari'),
+    ('Opera/192.168.30.100', 'Opera'),
+    ('Chrome/172.16.40.1', 'Chrome'),
+    ('Firefox/192.168.3.100', 'Firefox'),
+    ('Edge/192.168.40.1', 'Edge'),
+    ('Safari/10.100.100.1', 'Safari'),
+    ('Opera/192.168.4.100', 'Opera'),
+    ('Chrome/10.30.30.30', 'Chrome'),
+    ('Firefox/192.168.50.1', 'Firefox'),
+    ('Edge/192.168.5.1', 'Edge'),
+    ('Safari/192.168.60.1', 'Safari'),
+    ('Opera/172.16.50.1', 'Opera'),
+    ('Chrome/192.168.70.1', 'Chrome'),
+    ('Firefox/172.16.60.1', 'Firefox'),
+    ('Edge/192.168.80.1', 'Edge'),
+    ('Safari/192.168.90.1', 'Safari'),
+    ('Opera/10.40.40.40', 'Opera'),
+    ('Chrome/192.168.10.10', 'Chrome'),
+    ('Firefox/192.168.20.20', 'Firefox'),
+    ('Edge/192.168.30.30', 'Edge'),
+    ('Safari/192.168.40.40', 'Safari'),
+    ('Opera/192.168.50.50', 'Opera'),
+    ('Chrome/192.168.60.60', 'Chrome'),
+    ('Firefox/192.168.70.70', 'Firefox'),
+    ('Edge/192.168.80.80', 'Edge'),
+    ('Safari/192.168.90.90', 'Safari'),
+    ('Opera/192.168.100.100', 'Opera'),
+    ('Chrome/192.168.110.110', 'Chrome'),
+    ('Firefox/192.168.120.120', 'Firefox'),
+    ('Edge/192.168.130.130', 'Edge'),
+    ('Safari/192.168.140.140', 'Safari'),
+    ('Opera/192.168.150.150', 'Opera'),
+    ('Chrome/192.168.160.160', 'Chrome'),
+    ('Firefox/192.168.170.170', 'Firefox'),
+    ('Edge/192.168.180.180', 'Edge'),
+    ('Safari/192.168.190.190', 'Safari'),
+    ('Opera/192.168.200.200', 'Opera'),
+    ('Chrome/192.168.210.210', 'Chrome'),
+    ('Firefox/192.168.220.220', 'Firefox'),
+    ('Edge/192.168.230.230', 'Edge'),
+    ('Safari/192.168.240.240', 'Safari'),
+    ('Opera/192.168.250.250', 'Opera')
+) V (USER_AGENT, BROWSER);
+
+INSERT INTO HISTORY (LOGIN_TIME, USER_ID, DEVICE_ID, LOGIN_IP)
+SELECT CAST(V.LOGIN_TIME AS TIMESTAMP), V.USER_ID, D.DEVICE_ID, V.LOGIN_IP
+FROM (VALUES
+    (1, '2024-07-02 14:22:37', 1, 'Chrome/127.0.0.0', '123.456.879.123'),
+    (2, '2024-07-02 14:25:21', 2, 'Firefox/192.168.1.1', '234.567.890.234'),
+    (3, '2024-07-03 10:11:45', 3, 'Safari/10.0.0.1', '345.678.901.345'),
+    (4, '2024-07-03 13:45:12', 4, 'Edge/172.16.0.1', '456.789.012.456'),
+    (5, '2024-07-04 08:30:05', 5, 'Opera/172.31.255.255', '567.890.123.567'),
+    (6, '2024-07-04 09:15:30', 6, 'Chrome/192.168.0.100', '678.901.234.678'),
+    (7, '2024-07-05 15:20:17', 7, 'Firefox/10.1.1.1', '789.012.345.789'),
+    (8, '2024-07-05 16:55:42', 8, 'Edge/172.16.10.1', '890.123.456.890'),
+    (9, '2024-07-06 11:10:59', 9, 'Safari/192.168.1.100', '901.234.567.901'),
+    (10, '2024-07-06 14:35:25', 10, 'Opera/192.168.0.1', '012.345.678.012'),
+    (11, '2024-07-07 08:45:37', 5, 'Chrome/172.16.20.1', '123.456.789.123'),
+    (12, '2024-07-07 09:20:10', 4, 'Firefox/192.168.10.100', '234.567.890.234'),
+    (13, '2024-07-08 12:55:22', 2, 'Edge/10.10.10.10', '345.678.901.345'),
+    (14, '2024-07-08 13:30:44', 9, 'Safari/192.168.100.1', '456.789.012.456'),
+    (15, '2024-07-09 09:10:18', 10, 'Opera/172.16.30.1', '567.890.123.567'),
+    (16, '2024-07-09 10:25:55', 1, 'Chrome/192.168.20.100', '678.901.234.678'),
+    (17, '2024-07-10 14:40:33', 3, 'Firefox/192.168.200.1', '789.012.345.789'),
+    (18, '2024-07-10 15:15:11', 2, 'Edge/10.20.30.40', '890.123.456.890'),
+    (19, '2024-07-11 11:30:09', 6, 'Safari/192.168.2.1', '901.234.567.901'),
+    (20, '2024-07-11 12:05:55', 7, 'Opera/192.168.30.100', '012.345.678.012'),
+    (21, '2024-07-12 08:20:42', 4, 'Chrome/172.16.40.1', '123.456.789.123'),
+    (22, '2024-07-12 09:00:28', 5, 'Firefox/192.168.3.100', '234.567.890.234'),
+    (23, '2024-07-13 12:45:16', 3, 'Edge/192.168.40.1', '345.678.901.345'),
+    (24, '2024-07-13 13:20:58', 7, 'Safari/10.100.100.1', '456.789.012.456'),
+    (25, '2024-07-14 09:50:37', 8, 'Opera/192.168.4.100', '567.890.123.567'),
+    (26, '2024-07-14 10:30:15', 8, 'Chrome/10.30.30.30', '678.901.234.678'),
+    (27, '2024-07-14 14:15:22', 9, 'Firefox/192.168.50.1', '789.012.345.789'),
+    (28, '2024-07-14 15:00:10', 4, 'Edge/192.168.5.1', '890.123.456.890'),
+    (29, '2024-07-14 10:25:59', 1, 'Safari/192.168.60.1', '901.234.567.901'),
+    (30, '2024-07-14 11:05:45', 10, 'Opera/172.16.50.1', '012.345.678.012'),
+    (31, '2024-07-14 08:30:37', 2, 'Chrome/192.168.70.1', '123.456.879.123'),
+    (32, '2024-07-14 09:15:22', 9, 'Firefox/172.16.60.1', '234.567.890.234'),
+    (33, '2024-07-14 12:50:11', 4, 'Edge/192.168.80.1', '345.678.901.345'),
+    (34, '2024-07-14 13:30:45', 5, 'Safari/192.168.90.1', '456.789.012.456'),
+    (35, '2024-07-14 09:20:33', 5, 'Opera/10.40.40.40', '567.890.123.567'),
+    (36, '2024-07-14 10:05:11', 3, 'Chrome/192.168.10.10', '678.901.234.678'),
+    (37, '2024-07-14 14:30:18', 2, 'Firefox/192.168.20.20', '789.012.345.789'),
+    (38, '2024-07-14 15:15:09', 6, 'Edge/192.168.30.30', '890.123.456.890'),
+    (39, '2024-07-14 11:40:27', 8, 'Safari/192.168.40.40', '901.234.567.901'),
+    (40, '2024-07-14 12:25:55', 7, 'Opera/192.168.50.50', '012.345.678.012'),
+    (41, '2024-07-14 08:15:42', 7, 'Chrome/192.168.60.60', '123.456.789.123'),
+    (42, '2024-07-14 09:00:28', 4, 'Firefox/192.168.70.70', '234.567.890.234'),
+    (43, '2024-07-14 13:45:16', 5, 'Edge/192.168.80.80', '345.678.901.345'),
+    (44, '2024-07-14 14:30:58', 1, 'Safari/192.168.90.90', '456.789.012.456'),
+    (45, '2024-07-14 10:50:37', 1, 'Opera/192.168.100.100', '567.890.123.567'),
+    (46, '2024-07-14 11:30:15', 9, 'Chrome/192.168.110.110', '678.901.234.678'),
+    (47, '2024-07-14 14:25:22', 10, 'Firefox/192.168.120.120', '789.012.345.789'),
+    (48, '2024-07-14 15:10:10', 10, 'Edge/192.168.130.130', '890.123.456.890'),
+    (49, '2024-07-14 10:35:59', 4, 'Safari/192.168.140.140', '901.234.567.901'),
+    (50, '2024-07-14 11:20:45', 10, 'Opera/192.168.150.150', '012.345.678.012'),
+    (51, '2024-07-14 08:40:42', 3, 'Chrome/192.168.160.160', '123.456.789.123'),
+    (52, '2024-07-14 09:20:28', 6, 'Firefox/192.168.170.170', '234.567.890.234'),
+    (53, '2024-07-14 12:55:16', 7, 'Edge/192.168.180.180', '345.678.901.345'),
+    (54, '2024-07-14 13:30:58', 8, 'Safari/192.168.190.190', '456.789.012.456'),
+    (55, '2024-07-14 09:10:37', 8, 'Opera/192.168.200.200', '567.890.123.567'),
+    (56, '2024-07-14 10:00:15', 2, 'Chrome/192.168.210.210', '678.901.234.678'),
+    (57, '2024-07-14 14:15:22', 2, 'Firefox/192.168.220.220', '789.012.345.789'),
+    (58, '2024-07-14 15:00:10', 3, 'Edge/192.168.230.230', '890.123.456.890'),
+    (59, '2024-07-14 10:25:59', 3, 'Safari/192.168.240.240', '901.234.567.901'),
+    (60, '2024-07-14 11:05:45', 10, 'Opera/192.168.250.250', '012.345.678.012')
+) V (ORD, LOGIN_TIME, USER_ID, USER_AGENT, LOGIN_IP)
+JOIN LOGIN_DEVICE D ON D.DEVICE_HASH = RAWTOHEX(HASH('SHA-256', V.USER_AGENT))
+ORDER BY V.ORD;
 
 INSERT INTO USER_AUTHORITY (AUTHORITY_NAME, ID) VALUES
 ('ROLE_MASTER', 'jomg'),
@@ -0,0 +1,166 @@
+package com.daou.sabangnetserver.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.daou.sabangnetserver.domain.auth.dto.LoginRequestDto;
+import com.daou.sabangnetserver.domain.auth.dto.LoginResponseDto;
+import com.daou.sabangnetserver.domain.user.service.LoginDeviceService;
+import com.daou.sabangnetserver.global.error.AuthorityNotFoundException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:login-service-test;DB_CLOSE_DELAY=-1"
+})
+class LoginServiceTest {
+
+    private static final String PASSWORD = "password123!";
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private LoginDeviceService loginDeviceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private StatementCountingDataSource statementCountingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        insertUser("activeuser", true);
+        insertUser("inactiveuser", false);
+
+        //처음 보는 User-Agent의 DEVICE_ID 조회/등록은 한 번뿐이므로 미리 캐시에 넣고 로그인 한 번의 쿼리만 셈
+        loginDeviceService.getDeviceId(loginService.createLoginServiceDto(new MockHttpServletRequest(), login("activeuser")).getLoginDevice());
+
+        statementCountingDataSource = (StatementCountingDataSource) dataSource;
+        statementCountingDataSource.startCounting();
+    }
+
+    @Test
+    void 로그인은_사용자와_권한을_한_번의_쿼리로_조회한다() {
+        LoginResponseDto response = loginService.validateLogin(loginService.createLoginServiceDto(new MockHttpServletRequest(), login("activeuser")));
+
+        assertThat(response.getToken()).startsWith("Bearer ");
+        assertThat(statementCountingDataSource.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 비활성화된_사용자는_비밀번호_비교_전에_거절된다() {
+        assertThatThrownBy(() -> loginService.validateLogin(loginService.createLoginServiceDto(new MockHttpServletRequest(), login("inactiveuser"))))
+                .isInstanceOf(AuthorityNotFoundException.class);
+
+        assertThat(statementCountingDataSource.getStatementCount()).isEqualTo(1);
+    }
+
+    private LoginRequestDto login(String id) {
+        return LoginRequestDto.builder()
+                .id(id)
+                .password(PASSWORD)
+                .build();
+    }
+
+    //로그인 이력이 write-behind로 비동기 저장되어 USERS를 참조하므로, 지우고 다시 넣지 않고 없을 때만 한 번 넣음
+    private void insertUser(String id, boolean isUsed) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USERS WHERE ID = ?", Integer.class, id);
+        if (count != null && count > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO USERS (ID, PASSWORD, NAME, EMAIL, REGISTRATION_DATE, IS_USED, IS_DELETE) "
+                        + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, ?, FALSE)",
+                id, passwordEncoder.encode(PASSWORD), id, id + "@daou.co.kr", isUsed);
+        jdbcTemplate.update("INSERT INTO USER_AUTHORITY (AUTHORITY_NAME, ID) VALUES ('ROLE_ADMIN', ?)", id);
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        //JPA와 JdbcTemplate이 함께 쓰는 기본 DataSource를 감싸서 두 경로의 쿼리를 모두 셈
+        @Bean
+        static BeanPostProcessor statementCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                        return new StatementCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DB에 보내는 statement 수를 커넥션 단위에서 셈 (Hibernate 통계는 JdbcTemplate 쿼리를 세지 않음)
+     * write-behind writer 등 백그라운드 스레드의 쿼리는 제외하고 startCounting을 호출한 스레드의 쿼리만 셈
+     */
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "createStatement", "prepareCall");
+
+        private final AtomicInteger statementCount = new AtomicInteger();
+        private volatile Thread countingThread;
+
+        StatementCountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        void startCounting() {
+            countingThread = Thread.currentThread();
+            statementCount.set(0);
+        }
+
+        int getStatementCount() {
+            return statementCount.get();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (STATEMENT_METHODS.contains(method.getName()) && Thread.currentThread() == countingThread) {
+                            statementCount.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.daou.sabangnetserver.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.daou.sabangnetserver.global.error.TooManyRequestsException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LoginThrottleServiceTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final long start = System.nanoTime();
+
+    @Test
+    void period_동안_허용_횟수를_넘으면_거절하고_간격마다_한_번씩_다시_허용한다() {
+        //60초에 3번: 20초마다 한 번씩 채워짐
+        LoginThrottleService throttle = new LoginThrottleService(3, 60, 1000, 60, 100, 1000, 64, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertAllowed(throttle, "user", 0);
+        }
+        assertRejected(throttle, "user", 0);
+        assertRejected(throttle, "user", 19_000);
+        assertAllowed(throttle, "user", 20_000);
+        assertRejected(throttle, "user", 20_000);
+        assertAllowed(throttle, "other", 20_000);
+        assertThat(throttle.getRejectedByIdCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 키가_가득_차면_새_키는_공유_버킷으로_제한하고_정리된_뒤에는_키별로_제한한다() {
+        //overflow: 60초에 1번
+        LoginThrottleService throttle = new LoginThrottleService(3, 60, 1000, 60, 2, 1, 64, 1000);
+        assertAllowed(throttle, "user1", 0);
+        assertAllowed(throttle, "user2", 0);
+
+        assertAllowed(throttle, "user3", 1_000);
+        assertRejected(throttle, "user4", 1_000);
+        assertThat(throttle.getRejectedByOverflowCount()).isEqualTo(1);
+        assertThat(throttle.getTrackedIdCount()).isEqualTo(2);
+
+        //마지막 시도 후 간격(20초)이 지나면 상태가 없는 키이므로 정리 대상
+        assertAllowed(throttle, "user4", 21_000);
+        assertThat(throttle.getTrackedIdCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 키가_가득_찬_상태의_요청_중_정리는_간격마다_한_번만_수행한다() {
+        LoginThrottleService throttle = new LoginThrottleService(3, 60, 1000, 60, 2, 1, 64, 30_000);
+        assertAllowed(throttle, "user1", 0);
+        assertAllowed(throttle, "user2", 0);
+
+        //10초: 정리했지만 정리할 키가 없어 공유 버킷 사용
+        assertAllowed(throttle, "user3", 10_000);
+        //21초: user1/user2는 정리할 수 있지만 마지막 정리 후 30초가 지나지 않아 정리하지 않고, 공유 버킷은 소진됨
+        assertRejected(throttle, "user3", 21_000);
+        assertThat(throttle.getTrackedIdCount()).isEqualTo(2);
+
+        assertAllowed(throttle, "user3", 40_000);
+        assertThat(throttle.getTrackedIdCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 주기적인_정리는_상태가_없는_키만_제거한다() {
+        LoginThrottleService throttle = new LoginThrottleService(3, 60, 1000, 60, 100, 1000, 64, 1000);
+        assertAllowed(throttle, "idle", 0);
+        assertAllowed(throttle, "busy", 30_000);
+
+        throttle.sweep(start + TimeUnit.MILLISECONDS.toNanos(30_000));
+
+        assertThat(throttle.getTrackedIdCount()).isEqualTo(1);
+        assertThat(throttle.getTrackedIpCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 긴_키는_최대_길이까지만_사용한다() {
+        LoginThrottleService throttle = new LoginThrottleService(1, 60, 1000, 60, 100, 1000, 8, 1000);
+        assertAllowed(throttle, "abcdefgh-first", 0);
+
+        assertRejected(throttle, "abcdefgh-second", 0);
+        assertThat(throttle.getTrackedIdCount()).isEqualTo(1);
+    }
+
+    private void assertAllowed(LoginThrottleService throttle, String id, long elapsedMillis) {
+        assertThatCode(() -> throttle.checkLoginAttempt(id, IP, start + TimeUnit.MILLISECONDS.toNanos(elapsedMillis)))
+                .doesNotThrowAnyException();
+    }
+
+    private void assertRejected(LoginThrottleService throttle, String id, long elapsedMillis) {
+        assertThatThrownBy(() -> throttle.checkLoginAttempt(id, IP, start + TimeUnit.MILLISECONDS.toNanos(elapsedMillis)))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.daou.sabangnetserver.domain.auth.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.auth.dto.DeviceInfo;
+import org.junit.jupiter.api.Test;
+
+class UserAgentClassifierTest {
+
+    private static final String CHROME_WINDOWS = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36";
+    private static final String EDGE_WINDOWS = CHROME_WINDOWS + " Edg/127.0.0.0";
+    private static final String SAFARI_IPHONE = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15 "
+            + "(KHTML, like Gecko) Version/17.5 Mobile/15E148 Safari/604.1";
+    private static final String WHALE_ANDROID = "Mozilla/5.0 (Linux; Android 14; SM-S921N) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/124.0.0.0 Whale/3.26.244.21 Mobile Safari/537.36";
+
+    private final UserAgentClassifier userAgentClassifier = new UserAgentClassifier(100);
+
+    @Test
+    void 브라우저와_OS와_모바일_여부를_분류한다() {
+        assertThat(userAgentClassifier.classify(CHROME_WINDOWS)).isEqualTo(new DeviceInfo(CHROME_WINDOWS, "Chrome", "Windows", false));
+        assertThat(userAgentClassifier.classify(EDGE_WINDOWS).browser()).isEqualTo("Edge");
+        assertThat(userAgentClassifier.classify(SAFARI_IPHONE)).isEqualTo(new DeviceInfo(SAFARI_IPHONE, "Safari", "iOS", true));
+        assertThat(userAgentClassifier.classify(WHALE_ANDROID).label()).isEqualTo("Whale / Android (Mobile)");
+        assertThat(userAgentClassifier.classify(null).label()).isEqualTo("Other / Other");
+    }
+
+    @Test
+    void 같은_User_Agent는_캐시된_결과를_재사용한다() {
+        DeviceInfo first = userAgentClassifier.classify(CHROME_WINDOWS);
+        DeviceInfo second = userAgentClassifier.classify(CHROME_WINDOWS);
+
+        assertThat(second).isSameAs(first);
+        assertThat(userAgentClassifier.getMissCount()).isEqualTo(1);
+        assertThat(userAgentClassifier.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시는_최대_크기를_넘지_않는다() {
+        UserAgentClassifier smallClassifier = new UserAgentClassifier(10);
+        for (int i = 0; i < 100; i++) {
+            smallClassifier.classify(CHROME_WINDOWS + " build/" + i);
+        }
+
+        assertThat(smallClassifier.getCacheSize()).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,115 @@
+package com.daou.sabangnetserver.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorRowDto;
+import com.daou.sabangnetserver.domain.user.util.HistoryCursor;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HistorySegmentStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 여러_달에_걸친_보관_이력을_최신순으로_이어서_조회한다() throws Exception {
+        HistorySegmentStore store = open();
+        store.append(rows(1, 40, LocalDateTime.of(2024, 1, 20, 0, 0)));
+        store.append(rows(41, 40, LocalDateTime.of(2024, 2, 20, 0, 0)));
+
+        List<HistoryCursorRowDto> first = store.search("", "", HistoryCursor.FIRST.loginTime(), HistoryCursor.FIRST.historyId(), 30);
+        HistoryCursorRowDto last = first.getLast();
+        List<HistoryCursorRowDto> second = store.search("", "", last.getLoginTime(), last.getHistoryId(), 30);
+
+        assertThat(first).extracting(HistoryCursorRowDto::getHistoryId).startsWith(80L, 79L);
+        assertThat(second.getFirst().getHistoryId()).isEqualTo(last.getHistoryId() - 1);
+        assertThat(store.getArchivedRowCount()).isEqualTo(80);
+    }
+
+    @Test
+    void 아이디_조건은_해당_아이디의_이력만_반환한다() throws Exception {
+        HistorySegmentStore store = open();
+        store.append(rows(1, 40, LocalDateTime.of(2024, 3, 1, 0, 0)));
+
+        List<HistoryCursorRowDto> result = store.search("user3", "", HistoryCursor.FIRST.loginTime(), HistoryCursor.FIRST.historyId(), 100);
+
+        assertThat(result).isNotEmpty().allSatisfy(row -> assertThat(row.getId()).isEqualTo("user3"));
+    }
+
+    @Test
+    void 다시_열어도_보관된_이력을_읽고_중복으로_보관하지_않는다() throws Exception {
+        List<HistoryCursorRowDto> rows = rows(1, 10, LocalDateTime.of(2024, 4, 1, 0, 0));
+        open().append(rows);
+
+        HistorySegmentStore reopened = open();
+
+        assertThat(reopened.getSegmentCount()).isEqualTo(1);
+        assertThat(reopened.filterNotArchived(rows)).isEmpty();
+        assertThat(reopened.filterNotArchived(rows(11, 1, LocalDateTime.of(2024, 4, 2, 0, 0)))).hasSize(1);
+    }
+
+    @Test
+    void 매핑_전에_추가된_블록도_조회되고_remap_후에도_결과가_같다() throws Exception {
+        HistorySegmentStore store = open();
+        store.append(rows(1, 10, LocalDateTime.of(2024, 5, 1, 0, 0)));
+        store.remap();
+        for (int chunk = 1; chunk < 5; chunk++) {
+            store.append(rows(1 + chunk * 10L, 10, LocalDateTime.of(2024, 5, 1, 0, 0).plusHours(chunk)));
+        }
+
+        List<HistoryCursorRowDto> beforeRemap = store.search("", "", HistoryCursor.FIRST.loginTime(), HistoryCursor.FIRST.historyId(), 50);
+        store.remap();
+        List<HistoryCursorRowDto> afterRemap = store.search("", "", HistoryCursor.FIRST.loginTime(), HistoryCursor.FIRST.historyId(), 50);
+
+        assertThat(beforeRemap).hasSize(50).extracting(HistoryCursorRowDto::getHistoryId).startsWith(50L, 49L);
+        assertThat(afterRemap).extracting(HistoryCursorRowDto::getHistoryId)
+                .containsExactlyElementsOf(beforeRemap.stream().map(HistoryCursorRowDto::getHistoryId).toList());
+        assertThat(store.getArchivedUntil()).isEqualTo(LocalDateTime.of(2024, 5, 1, 4, 9));
+    }
+
+    @Test
+    void offset_페이지는_건너뛴_행_다음부터_조회하고_조건에_맞는_행_수를_센다() throws Exception {
+        HistorySegmentStore store = open();
+        store.append(rows(1, 2500, LocalDateTime.of(2024, 6, 1, 0, 0)));
+
+        List<HistoryCursorRowDto> page = store.searchPage("", "", 1200, 10);
+
+        assertThat(page).extracting(HistoryCursorRowDto::getHistoryId).startsWith(1300L, 1299L).hasSize(10);
+        assertThat(store.searchPage("", "", 2495, 10)).hasSize(5);
+        assertThat(store.count("", "")).isEqualTo(2500);
+        assertThat(store.count("user3", "")).isEqualTo(500);
+        assertThat(store.count("", "사용자4")).isEqualTo(500);
+    }
+
+    @Test
+    void 내보내기는_기간_안의_보관_이력을_batch로_나눠_최신순으로_넘긴다() throws Exception {
+        HistorySegmentStore store = open();
+        store.append(rows(1, 40, LocalDateTime.of(2024, 7, 31, 23, 30)));
+
+        List<HistoryCursorRowDto> streamed = new ArrayList<>();
+        store.stream("", "", LocalDateTime.of(2024, 7, 31, 23, 40), LocalDateTime.of(2024, 8, 1, 0, 0), 3, streamed::add);
+
+        //23:40 이상 00:00 미만 (historyId 11~30), 달이 바뀌는 00:00 행은 제외
+        assertThat(streamed).extracting(HistoryCursorRowDto::getHistoryId).hasSize(20).startsWith(30L, 29L).endsWith(11L);
+    }
+
+    private HistorySegmentStore open() throws Exception {
+        HistorySegmentStore store = new HistorySegmentStore(true, directory.toString());
+        store.afterPropertiesSet();
+        return store;
+    }
+
+    private List<HistoryCursorRowDto> rows(long firstHistoryId, int count, LocalDateTime firstLoginTime) {
+        List<HistoryCursorRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new HistoryCursorRowDto(firstHistoryId + i, firstLoginTime.plusMinutes(i),
+                    "사용자" + (i % 5), "user" + (i % 5), "Windows Chrome", "192.168.0." + i));
+        }
+        return rows;
+    }
+}
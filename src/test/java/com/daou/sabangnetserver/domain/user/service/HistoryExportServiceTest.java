@@ -0,0 +1,84 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryExportRequestDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:history-export-service-test;DB_CLOSE_DELAY=-1"
+})
+class HistoryExportServiceTest {
+
+    private static final String USER_ID = "exportuser";
+    private static final String USER_NAME = "=HYPERLINK(\"http://example.com\",\"열기\")";
+
+    @Autowired
+    private HistoryExportService historyExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USERS WHERE ID = ?", Integer.class, USER_ID);
+        if (count != null && count > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO USERS (ID, PASSWORD, NAME, EMAIL, REGISTRATION_DATE, IS_USED, IS_DELETE) "
+                + "VALUES (?, 'password', ?, ?, CURRENT_TIMESTAMP, TRUE, FALSE)", USER_ID, USER_NAME, USER_ID + "@daou.co.kr");
+        for (String loginTime : List.of("2030-01-01 00:00:00", "2030-01-01 12:00:00", "2030-01-02 00:00:00")) {
+            jdbcTemplate.update("INSERT INTO HISTORY (LOGIN_TIME, USER_ID, DEVICE_ID, LOGIN_IP) "
+                    + "SELECT CAST(? AS TIMESTAMP), U.USER_ID, (SELECT MIN(DEVICE_ID) FROM LOGIN_DEVICE), '10.0.0.1' "
+                    + "FROM USERS U WHERE U.ID = ?", loginTime, USER_ID);
+        }
+    }
+
+    @Test
+    void CSV는_기간_안의_이력만_내보내고_수식으로_해석될_값을_무력화한다() throws Exception {
+        List<String> lines = export(HistoryExportService.FORMAT_CSV).lines().toList();
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.getFirst()).isEqualTo("loginTime,name,id,loginDevice,loginIp");
+        assertThat(lines.get(1)).startsWith("2030-01-01 12:00:00,\"'=HYPERLINK(\"\"http://example.com\"\",\"\"열기\"\")\"," + USER_ID + ",");
+        assertThat(lines.get(2)).startsWith("2030-01-01 00:00:00,");
+        assertThat(lines).allMatch(line -> !line.startsWith("2030-01-02"));
+    }
+
+    @Test
+    void NDJSON은_한_줄에_이력_하나씩_원래_값으로_내보낸다() throws Exception {
+        List<String> lines = export(HistoryExportService.FORMAT_NDJSON).lines().toList();
+
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.getFirst());
+        assertThat(first.path("loginTime").asText()).isEqualTo("2030-01-01 12:00:00");
+        assertThat(first.path("name").asText()).isEqualTo(USER_NAME);
+        assertThat(first.path("id").asText()).isEqualTo(USER_ID);
+        assertThat(objectMapper.readTree(lines.get(1)).path("loginTime").asText()).isEqualTo("2030-01-01 00:00:00");
+    }
+
+    //from 이상, to 미만이므로 2030-01-02 00:00:00 이력은 제외
+    private String export(String format) throws Exception {
+        HistoryExportRequestDto requestDto = HistoryExportRequestDto.builder()
+                .id(USER_ID)
+                .from(LocalDateTime.of(2030, 1, 1, 0, 0))
+                .to(LocalDateTime.of(2030, 1, 2, 0, 0))
+                .format(format)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        historyExportService.export(requestDto, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
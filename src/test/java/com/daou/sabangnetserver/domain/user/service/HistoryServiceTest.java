@@ -0,0 +1,68 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.user.dto.HistoryCursorResponseDto;
+import com.daou.sabangnetserver.domain.user.dto.HistorySearchRequestDto;
+import com.daou.sabangnetserver.domain.user.dto.HistorySearchResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:history-service-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class HistoryServiceTest {
+
+    @Autowired
+    private HistoryService historyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 히스토리_검색은_엔티티를_로딩하지_않는다() {
+        HistorySearchResponseDto response = historyService.searchHistory(search(20, null));
+
+        assertThat(response.getHistories()).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void 커서_조회는_개수_쿼리_없이_다음_페이지로_이어진다() {
+        HistoryCursorResponseDto first = historyService.searchHistoryByCursor(search(20, ""));
+        HistoryCursorResponseDto second = historyService.searchHistoryByCursor(search(20, first.getNextCursor()));
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getHistories()).hasSize(20);
+        assertThat(second.getHistories().getFirst().getLoginTime())
+                .isBeforeOrEqualTo(first.getHistories().getLast().getLoginTime());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private HistorySearchRequestDto search(int showList, String cursor) {
+        return HistorySearchRequestDto.builder()
+                .id("")
+                .name("")
+                .page(1)
+                .showList(showList)
+                .cursor(cursor)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import-service-test;DB_CLOSE_DELAY=-1",
+        "password-hashing.bcrypt.strength=4",
+        "user.import.chunk-size=2"
+})
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void CSV_파일의_행별_등록_결과를_기록한다() throws Exception {
+        String csv = String.join("\n",
+                "id,password,authority,name,email,department,memo",
+                "importa,password123!,ADMIN,가져오기A,importa@daou.co.kr,개발팀,",
+                "importb,password123!,MASTER,\"가져오기, B\",importb@daou.co.kr,,",
+                "importa,password123!,ADMIN,중복,importc@daou.co.kr,,",
+                "jomg,password123!,ADMIN,기존,importd@daou.co.kr,,",
+                "importe,short,ADMIN,짧은비밀번호,importe@daou.co.kr,,");
+
+        String report = runImport(csv);
+
+        assertThat(report.lines()).hasSize(6);
+        assertThat(report).contains("\"row\":1,\"id\":\"importa\",\"status\":\"CREATED\"");
+        assertThat(report).contains("\"row\":2,\"id\":\"importb\",\"status\":\"CREATED\"");
+        assertThat(report).contains("\"row\":3,\"id\":\"importa\",\"status\":\"FAILED\",\"message\":\"파일 안에 중복된 아이디입니다.\"");
+        assertThat(report).contains("\"row\":4,\"id\":\"jomg\",\"status\":\"FAILED\",\"message\":\"이미 존재하는 아이디입니다.\"");
+        assertThat(report).contains("\"row\":5,\"id\":\"importe\",\"status\":\"FAILED\"");
+        assertThat(report.lines().toList().getLast()).isEqualTo("{\"total\":5,\"created\":2,\"failed\":3}");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT NAME FROM USERS WHERE ID = 'importb'", String.class)).isEqualTo("가져오기, B");
+        assertThat(jdbcTemplate.queryForObject("SELECT AUTHORITY_NAME FROM USER_AUTHORITY WHERE ID = 'importb'", String.class)).isEqualTo("ROLE_MASTER");
+    }
+
+    private String runImport(String csv) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userImportService.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), true, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,82 @@
+package com.daou.sabangnetserver.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.daou.sabangnetserver.domain.auth.dto.ApproveRequestDto;
+import com.daou.sabangnetserver.domain.user.dto.BulkUpdateResponseDto;
+import com.daou.sabangnetserver.domain.user.dto.BulkUpdateResultDto;
+import com.daou.sabangnetserver.domain.user.dto.BulkUpdateStatus;
+import com.daou.sabangnetserver.domain.user.dto.UserSearchRequestDto;
+import com.daou.sabangnetserver.domain.user.dto.UserSearchResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-service-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 사용자_검색은_목록과_개수를_두_번의_쿼리로_조회한다() {
+        UserSearchResponseDto response = userService.searchUsers(search(10));
+
+        assertThat(response.getUsers()).hasSize(10);
+        assertThat(response.getUsers()).allSatisfy(user -> assertThat(user.getAuthority()).isIn("MASTER", "ADMIN"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void 한_페이지에_모두_담기면_개수_쿼리를_생략한다() {
+        UserSearchResponseDto response = userService.searchUsers(search(100));
+
+        assertThat(response.getUsers()).hasSize(response.getTotalLists());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void 일괄_승인은_아이디별_결과를_반환하고_한_번에_갱신한다() {
+        ApproveRequestDto requestDto = new ObjectMapper().convertValue(
+                Map.of("ids", List.of("kimj", "jomg", "nobody", "kimj")), ApproveRequestDto.class);
+
+        BulkUpdateResponseDto response = userService.updateIsUsed(requestDto);
+
+        assertThat(response.getResults())
+                .extracting(BulkUpdateResultDto::getId, BulkUpdateResultDto::getStatus)
+                .containsExactly(
+                        tuple("kimj", BulkUpdateStatus.APPLIED),
+                        tuple("jomg", BulkUpdateStatus.ALREADY),
+                        tuple("nobody", BulkUpdateStatus.MISSING));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private UserSearchRequestDto search(int showList) {
+        return new UserSearchRequestDto("", "", "", null, 1, showList);
+    }
+}
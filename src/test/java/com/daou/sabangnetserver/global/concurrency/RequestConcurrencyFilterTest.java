@@ -0,0 +1,60 @@
+package com.daou.sabangnetserver.global.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestConcurrencyFilterTest {
+
+    @Test
+    void 허용_수를_넘은_요청은_503으로_거절한다() throws Exception {
+        RequestConcurrencyFilter filter = new RequestConcurrencyFilter(true, 1, 0);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread running = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/search"), new MockHttpServletResponse(), (request, response) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/search"), rejected, new MockFilterChain());
+        MockHttpServletResponse actuator = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuator, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(actuator.getStatus()).isEqualTo(200);
+        assertThat(filter.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        running.join();
+        assertThat(filter.getActiveCount()).isZero();
+    }
+
+    @Test
+    void 플랫폼_스레드_모드에서는_제한하지_않는다() throws Exception {
+        RequestConcurrencyFilter filter = new RequestConcurrencyFilter(false, 1, 0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/search"), response, new MockFilterChain());
+
+        assertThat(filter.isEnabled()).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
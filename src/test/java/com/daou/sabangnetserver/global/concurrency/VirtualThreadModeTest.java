@@ -0,0 +1,110 @@
+package com.daou.sabangnetserver.global.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.auth.dto.LoginRequestDto;
+import com.daou.sabangnetserver.domain.auth.service.LoginService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-thread-mode-test;DB_CLOSE_DELAY=-1",
+        "spring.threads.virtual.enabled=true"
+})
+class VirtualThreadModeTest {
+
+    private static final String PASSWORD = "password123!";
+    private static final List<String> USER_IDS = List.of("virtualuser1", "virtualuser2");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private RequestConcurrencyFilter requestConcurrencyFilter;
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        for (String id : USER_IDS) {
+            //로그인 이력이 비동기로 USERS를 참조하므로 이미 있으면 다시 넣지 않음
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USERS WHERE ID = ?", Integer.class, id);
+            if (count != null && count > 0) {
+                continue;
+            }
+            jdbcTemplate.update("INSERT INTO USERS (ID, PASSWORD, NAME, EMAIL, REGISTRATION_DATE, IS_USED, IS_DELETE) "
+                    + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, TRUE, FALSE)", id, encodedPassword, id, id + "@daou.co.kr");
+            jdbcTemplate.update("INSERT INTO USER_AUTHORITY (AUTHORITY_NAME, ID) VALUES ('ROLE_ADMIN', ?)", id);
+        }
+    }
+
+    @Test
+    void 요청은_가상_스레드에서_처리되고_동시_처리_수가_제한된다() {
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+        assertThat(requestConcurrencyFilter.isEnabled()).isTrue();
+    }
+
+    @Test
+    void 동시에_처리되는_요청끼리_인증_정보가_섞이지_않는다() throws Exception {
+        List<String> tokens = USER_IDS.stream().map(this::login).toList();
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                String token = tokens.get(i % tokens.size());
+                results.add(executor.submit(() -> {
+                    HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/authority"))
+                            .header("Authorization", token).GET().build(), HttpResponse.BodyHandlers.ofString());
+                    return objectMapper.readTree(response.body()).path("data").path("id").asText();
+                }));
+            }
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get()).isEqualTo(USER_IDS.get(i % USER_IDS.size()));
+        }
+    }
+
+    private String login(String id) {
+        LoginRequestDto loginRequestDto = LoginRequestDto.builder()
+                .id(id)
+                .password(PASSWORD)
+                .build();
+        return loginService.validateLogin(loginService.createLoginServiceDto(new MockHttpServletRequest(), loginRequestDto)).getToken();
+    }
+}
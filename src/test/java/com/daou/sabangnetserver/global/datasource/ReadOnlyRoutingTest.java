@@ -0,0 +1,38 @@
+package com.daou.sabangnetserver.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.user.dto.HistorySearchRequestDto;
+import com.daou.sabangnetserver.domain.user.dto.UserSearchRequestDto;
+import com.daou.sabangnetserver.domain.user.service.HistoryService;
+import com.daou.sabangnetserver.domain.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-only-routing-test;DB_CLOSE_DELAY=-1"
+})
+class ReadOnlyRoutingTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private HistoryService historyService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @Test
+    void 조회_서비스는_읽기_전용_풀을_사용한다() {
+        long readCount = readWriteRoutingDataSource.getReadCount();
+
+        userService.searchUsers(new UserSearchRequestDto("", "", "", null, 1, 10));
+        userService.getUserById("jomg");
+        historyService.searchHistory(HistorySearchRequestDto.builder().id("").name("").page(1).showList(10).build());
+
+        assertThat(readWriteRoutingDataSource.getReadCount() - readCount).isEqualTo(3);
+        assertThat(readWriteRoutingDataSource.getFallbackCount()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.daou.sabangnetserver.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//primary와 replica를 서로 다른 H2 메모리 DB로 만들고, 어느 DB에서 조회했는지 표시 행으로 확인
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    @BeforeEach
+    void setUp() {
+        createMarker(primary, "primary");
+        createMarker(replica, "replica");
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션만_replica에서_조회한다() {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary, replica, true, 30000);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routingDataSource));
+        //LazyConnectionDataSourceProxy가 기본 autoCommit 등을 확인하려고 가져간 커넥션은 제외
+        long writeCount = routingDataSource.getWriteCount();
+
+        assertThat(readMarker(jdbcTemplate, true)).isEqualTo("replica");
+        assertThat(readMarker(jdbcTemplate, false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT NAME FROM ROUTE_MARKER", String.class)).isEqualTo("primary");
+        assertThat(routingDataSource.getReadCount()).isEqualTo(1);
+        assertThat(routingDataSource.getWriteCount() - writeCount).isEqualTo(2);
+    }
+
+    @Test
+    void replica에_연결할_수_없으면_재시도_간격_동안_primary를_사용한다() {
+        AtomicInteger attempts = new AtomicInteger();
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary, unavailable(attempts), true, 30000);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routingDataSource));
+
+        assertThat(readMarker(jdbcTemplate, true)).isEqualTo("primary");
+        assertThat(readMarker(jdbcTemplate, true)).isEqualTo("primary");
+        assertThat(attempts).hasValue(1);
+        assertThat(routingDataSource.getFallbackCount()).isEqualTo(2);
+    }
+
+    @Test
+    void fallback을_끄면_replica_연결_실패를_그대로_던진다() {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary, unavailable(new AtomicInteger()), false, 30000);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routingDataSource));
+
+        assertThatThrownBy(() -> readMarker(jdbcTemplate, true)).isInstanceOf(DataAccessException.class);
+        assertThat(readMarker(jdbcTemplate, false)).isEqualTo("primary");
+    }
+
+    private static String readMarker(JdbcTemplate jdbcTemplate, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT NAME FROM ROUTE_MARKER", String.class));
+    }
+
+    private static void createMarker(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ROUTE_MARKER (NAME VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM ROUTE_MARKER");
+        jdbcTemplate.update("INSERT INTO ROUTE_MARKER (NAME) VALUES (?)", name);
+    }
+
+    private static DataSource unavailable(AtomicInteger attempts) {
+        return new DriverManagerDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                attempts.incrementAndGet();
+                throw new SQLException("replica unavailable");
+            }
+        };
+    }
+}
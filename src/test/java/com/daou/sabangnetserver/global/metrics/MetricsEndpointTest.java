@@ -0,0 +1,66 @@
+package com.daou.sabangnetserver.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.daou.sabangnetserver.domain.statistics.repository.LoginStatisticsJdbcRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics-endpoint-test;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private LoginStatisticsJdbcRepository loginStatisticsJdbcRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void 관리_포트에서_토큰_없이_Prometheus_형식으로_지표를_수집한다() throws Exception {
+        passwordEncoder.matches("password123!", passwordEncoder.encode("password123!"));
+        loginStatisticsJdbcRepository.isEmpty();
+
+        HttpResponse<String> response = get(managementPort, "/actuator/prometheus");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body())
+                .contains("sabangnet_password_matches_seconds_count")
+                .contains("sabangnet_password_matches_seconds_bucket")
+                .contains("sabangnet_jwt_verify_seconds_count")
+                .contains("repository=\"LoginStatisticsJdbcRepository\"")
+                .contains("sabangnet_password_hashing_queue_size")
+                .contains("sabangnet_jwt_cache_hits_total")
+                .doesNotContain("sabangnet_repository_invocations_seconds_bucket");
+    }
+
+    @Test
+    void 서비스_포트에서는_지표를_노출하지_않는다() throws Exception {
+        assertThat(managementPort).isNotEqualTo(port);
+        assertThat(get(port, "/actuator/prometheus").statusCode()).isNotEqualTo(200);
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
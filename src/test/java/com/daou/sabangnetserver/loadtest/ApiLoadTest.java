@@ -0,0 +1,307 @@
+package com.daou.sabangnetserver.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * /login, /search, /history, /mypage/{id}의 처리량과 응답 시간 측정
+ * 가상 사용자마다 로그인 후 인증이 필요한 조회를 reads-per-login번 반복하고, 엔드포인트별 histogram과 오류율을 출력
+ * 설정한 예산(p99, 오류율, 최소 처리량)을 넘으면 실패; 일반 test 태스크에서는 제외되고 ./gradlew loadTest로 실행
+ *
+ * 설정(-Ploadtest.xxx=값):
+ *   users, iterations, reads-per-login, warmup-iterations
+ *   virtual-threads (true면 spring.threads.virtual.enabled=true로 실행; 같은 설정으로 플랫폼 스레드와 비교)
+ *   budget.error-rate, budget.{login|search|history|mypage}.p99-ms, budget.{...}.min-rps
+ *   budget.pinned-events (측정 구간에 허용하는 가상 스레드 pinning 횟수; 기본값 -1은 출력만 함)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:api-load-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "access-log.sample-rate=0",
+        "login.throttle.id.max-attempts=1000000",
+        "login.throttle.ip.max-attempts=1000000"
+})
+class ApiLoadTest {
+
+    private static final String PASSWORD = "password123!";
+    private static final String USER_PREFIX = "loadtest";
+
+    private static final int USERS = intProperty("users", 50);
+    private static final int ITERATIONS = intProperty("iterations", 5);
+    private static final int READS_PER_LOGIN = intProperty("reads-per-login", 20);
+    private static final int WARMUP_ITERATIONS = intProperty("warmup-iterations", 1);
+    private static final double MAX_ERROR_RATE = doubleProperty("budget.error-rate", 0.01);
+    private static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false"));
+    private static final long MAX_PINNED_EVENTS = (long) doubleProperty("budget.pinned-events", -1);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private HttpClient httpClient;
+    private Map<String, EndpointStats> stats;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final Map<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+
+    @DynamicPropertySource
+    static void threadingProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        //서버가 받는 동시 요청 수를 두 모드에서 같게 유지
+        registry.add("request.concurrency.max-concurrent", () -> Math.max(200, USERS));
+    }
+
+    @BeforeEach
+    void setUp() {
+        //해시는 한 번만 계산해서 모든 가상 사용자가 같은 비밀번호를 사용
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> authorities = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String id = userId(i);
+            users.add(new Object[]{id, encodedPassword, "부하테스트" + i, id + "@daou.co.kr"});
+            authorities.add(new Object[]{id});
+        }
+        jdbcTemplate.update("DELETE FROM USER_AUTHORITY WHERE ID LIKE ?", USER_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM USERS WHERE ID LIKE ?", USER_PREFIX + "%");
+        jdbcTemplate.batchUpdate("INSERT INTO USERS (ID, PASSWORD, NAME, EMAIL, REGISTRATION_DATE, IS_USED, IS_DELETE) "
+                + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, TRUE, FALSE)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO USER_AUTHORITY (AUTHORITY_NAME, ID) VALUES ('ROLE_ADMIN', ?)", authorities);
+
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Test
+    void 엔드포인트별_응답_시간이_예산_이내다() throws Exception {
+        stats = newStats();
+        runScenario(WARMUP_ITERATIONS);
+
+        stats = newStats();
+        double elapsedSeconds;
+        //측정 구간에서 가상 스레드가 carrier 스레드에 고정된 횟수와 위치를 JFR로 수집
+        try (RecordingStream recordingStream = new RecordingStream()) {
+            recordingStream.enable(PINNED_EVENT).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, event -> {
+                pinnedEvents.increment();
+                List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+                String frame = frames.stream()
+                        .filter(recordedFrame -> recordedFrame.getMethod().getType().getName().startsWith("com.daou"))
+                        .findFirst()
+                        .or(() -> frames.stream().findFirst())
+                        .map(recordedFrame -> recordedFrame.getMethod().getType().getName() + "." + recordedFrame.getMethod().getName())
+                        .orElse("unknown");
+                pinnedFrames.computeIfAbsent(frame, key -> new LongAdder()).increment();
+            });
+            recordingStream.startAsync();
+
+            long startNanos = System.nanoTime();
+            runScenario(ITERATIONS);
+            elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            recordingStream.stop();
+        }
+
+        List<String> violations = report(elapsedSeconds);
+        assertThat(violations).as("부하 테스트 예산 초과").isEmpty();
+    }
+
+    //가상 사용자 하나당 가상 스레드 하나
+    private void runScenario(int iterations) throws Exception {
+        if (iterations <= 0) {
+            return;
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                String id = userId(i);
+                futures.add(executor.submit(() -> {
+                    for (int iteration = 0; iteration < iterations; iteration++) {
+                        runVirtualUser(id);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void runVirtualUser(String id) {
+        String loginBody = "{\"id\":\"" + id + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> loginResponse = send("login", HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody)));
+        String token = loginResponse == null ? null : extractToken(loginResponse);
+        if (token == null) {
+            return;
+        }
+
+        for (int i = 0; i < READS_PER_LOGIN; i++) {
+            switch (i % 3) {
+                case 0 -> send("search", authorized(token, "/search?id=&name=&email=&page=1&showList=10"));
+                case 1 -> send("history", authorized(token, "/history?id=&name=&page=1&showList=10"));
+                default -> send("mypage", authorized(token, "/mypage/" + userId(ThreadLocalRandom.current().nextInt(USERS))));
+            }
+        }
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", token).GET();
+    }
+
+    //2xx가 아니거나 연결 오류면 오류로 집계
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder requestBuilder) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        long startNanos = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(requestBuilder.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            endpointStats.histogram.recordNanos(System.nanoTime() - startNanos);
+            if (response.statusCode() / 100 != 2) {
+                endpointStats.errors.increment();
+                return null;
+            }
+            return response;
+        } catch (Exception e) {
+            endpointStats.histogram.recordNanos(System.nanoTime() - startNanos);
+            endpointStats.errors.increment();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private static String extractToken(HttpResponse<String> response) {
+        try {
+            JsonNode token = OBJECT_MAPPER.readTree(response.body()).path("data").path("token");
+            return token.isTextual() ? token.asText() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private List<String> report(double elapsedSeconds) {
+        List<String> violations = new ArrayList<>();
+        StringBuilder table = new StringBuilder(String.format("%n=== API 부하 테스트(%s 스레드): 가상 사용자 %d명, 반복 %d회, 로그인당 조회 %d회, %.1f초 ===%n",
+                VIRTUAL_THREADS ? "가상" : "플랫폼", USERS, ITERATIONS, READS_PER_LOGIN, elapsedSeconds));
+        table.append(String.format("%-8s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+
+        stats.forEach((endpoint, endpointStats) -> {
+            LatencyHistogram histogram = endpointStats.histogram;
+            long requests = histogram.getTotalCount();
+            long errors = endpointStats.errors.sum();
+            double throughput = requests / elapsedSeconds;
+            double p99Millis = histogram.getValueAtPercentile(99) / 1000.0;
+            table.append(String.format("%-8s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, requests, errors, throughput,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    p99Millis,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxMicros() / 1000.0));
+
+            double errorRate = requests == 0 ? 0 : (double) errors / requests;
+            if (errorRate > MAX_ERROR_RATE) {
+                violations.add(String.format("%s 오류율 %.2f%% > %.2f%%", endpoint, errorRate * 100, MAX_ERROR_RATE * 100));
+            }
+            double maxP99Millis = doubleProperty("budget." + endpoint + ".p99-ms", endpointStats.defaultP99Millis);
+            if (maxP99Millis > 0 && p99Millis > maxP99Millis) {
+                violations.add(String.format("%s p99 %.2fms > %.2fms", endpoint, p99Millis, maxP99Millis));
+            }
+            double minThroughput = doubleProperty("budget." + endpoint + ".min-rps", 0);
+            if (minThroughput > 0 && throughput < minThroughput) {
+                violations.add(String.format("%s 처리량 %.1f req/s < %.1f req/s", endpoint, throughput, minThroughput));
+            }
+        });
+
+        long pinned = pinnedEvents.sum();
+        table.append(String.format("가상 스레드 pinning: %d회%n", pinned));
+        pinnedFrames.forEach((frame, count) -> table.append(String.format("  %6d %s%n", count.sum(), frame)));
+        if (MAX_PINNED_EVENTS >= 0 && pinned > MAX_PINNED_EVENTS) {
+            violations.add(String.format("가상 스레드 pinning %d회 > %d회", pinned, MAX_PINNED_EVENTS));
+        }
+
+        System.out.println(table);
+        return violations;
+    }
+
+    //로그인은 BCrypt(기본 목표 250ms)와 해싱 executor 대기 시간이 포함되므로 예산을 따로 둠
+    private static Map<String, EndpointStats> newStats() {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        stats.put("login", new EndpointStats(5000));
+        stats.put("search", new EndpointStats(500));
+        stats.put("history", new EndpointStats(500));
+        stats.put("mypage", new EndpointStats(500));
+        return stats;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String userId(int index) {
+        return String.format("%s%04d", USER_PREFIX, index);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    private static final class EndpointStats {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final double defaultP99Millis;
+
+        private EndpointStats(double defaultP99Millis) {
+            this.defaultP99Millis = defaultP99Millis;
+        }
+    }
+}
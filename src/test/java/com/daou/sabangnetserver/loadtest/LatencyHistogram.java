@@ -0,0 +1,81 @@
+package com.daou.sabangnetserver.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HdrHistogram과 같은 방식(log-linear 버킷)으로 응답 시간을 기록하는 histogram
+ * 마이크로초 단위로 기록하고, 2의 거듭제곱 구간마다 64개의 하위 버킷을 두어 오차를 약 1.6% 이내로 유지
+ * 여러 가상 사용자 스레드에서 동시에 record해도 되고, 기록은 배열 원소 하나의 원자적 증가뿐
+ */
+class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 6;
+    //2^36us(약 19시간)까지 기록; 그 이상은 마지막 버킷에 포함
+    private static final int MAX_MAGNITUDE = 36;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (MAX_MAGNITUDE - 7 + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void recordNanos(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.incrementAndGet();
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    //128us 미만은 1us 단위, 그 이상은 최상위 비트 아래 6비트로 하위 버킷 결정
+    static int indexOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (magnitude - 7) * SUB_BUCKETS + subBucket;
+    }
+
+    //버킷에 들어가는 가장 큰 값; HdrHistogram의 highestEquivalentValue와 같이 percentile은 보수적으로(크게) 보고
+    static long highestValueOf(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKETS;
+        int magnitude = 7 + offset / SUB_BUCKETS;
+        long top = SUB_BUCKETS + offset % SUB_BUCKETS;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    long getTotalCount() {
+        return totalCount.get();
+    }
+
+    long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    //percentile: 0~100
+    long getValueAtPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return Math.min(highestValueOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+}
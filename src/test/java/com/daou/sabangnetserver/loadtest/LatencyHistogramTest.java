@@ -0,0 +1,34 @@
+package com.daou.sabangnetserver.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 백분위_값은_실제_값보다_작지_않고_오차가_2퍼센트_이내다() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertThat(histogram.getTotalCount()).isEqualTo(1000);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(500_000L, 510_000L);
+        assertThat(histogram.getValueAtPercentile(99) / 1000.0).isCloseTo(990, within(990 * 0.02));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    void 버킷의_최댓값은_다음_버킷의_최솟값_바로_앞이다() {
+        for (long micros : new long[]{0, 1, 127, 128, 129, 1_000, 65_535, 65_536, 30_000_000}) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(micros);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestValueOf(index - 1)).isLessThan(micros);
+            }
+        }
+    }
+}